@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Provides the scratch byte and char arrays, and the direct byte buffers for channels, that {@link IOUtils},
+ * {@link FileUtils} and {@link CopyUtils} use internally while copying and comparing.
+ * <p>
+ * An array or buffer obtained from a pool is used by a single caller and handed back with {@code release} once the
+ * caller is done with it; its content is unspecified. Implementations must be thread-safe. Implementations are available from
+ * {@link BufferPools}, and the pool used by this library is set with {@link IOUtils#setBufferPool(BufferPool)}.
+ * </p>
+ *
+ * @see BufferPools
+ * @since 2.9.0
+ */
+public interface BufferPool {
+
+    /**
+     * Gets a byte array of exactly the given size, reusing a released array if one is available.
+     *
+     * @param size the array size.
+     * @return a byte array of the given size.
+     */
+    byte[] getByteArray(int size);
+
+    /**
+     * Gets a char array of exactly the given size, reusing a released array if one is available.
+     *
+     * @param size the array size.
+     * @return a char array of the given size.
+     */
+    char[] getCharArray(int size);
+
+    /**
+     * Gets a cleared direct byte buffer of exactly the given capacity, reusing a released buffer if one is available.
+     *
+     * @param capacity the buffer capacity.
+     * @return a direct byte buffer of the given capacity.
+     */
+    ByteBuffer getDirectByteBuffer(int capacity);
+
+    /**
+     * Gets the number of requests served with a reused array or buffer.
+     *
+     * @return the number of requests served with a reused array or buffer.
+     */
+    long getHitCount();
+
+    /**
+     * Gets the number of requests served with a newly allocated array or buffer.
+     *
+     * @return the number of requests served with a newly allocated array or buffer.
+     */
+    long getMissCount();
+
+    /**
+     * Hands back an array obtained from {@link #getByteArray(int)}, the caller must not use it afterwards.
+     *
+     * @param array the array to release, may be null.
+     */
+    void release(byte[] array);
+
+    /**
+     * Hands back a buffer obtained from {@link #getDirectByteBuffer(int)}, the caller must not use it afterwards.
+     *
+     * @param buffer the buffer to release, may be null.
+     */
+    void release(ByteBuffer buffer);
+
+    /**
+     * Hands back an array obtained from {@link #getCharArray(int)}, the caller must not use it afterwards.
+     *
+     * @param array the array to release, may be null.
+     */
+    void release(char[] array);
+
+}
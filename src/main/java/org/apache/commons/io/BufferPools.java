@@ -0,0 +1,438 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Provides {@link BufferPool} implementations.
+ * <p>
+ * Pools only keep arrays and direct buffers of their configured buffer size, {@link IOUtils#DEFAULT_BUFFER_SIZE}
+ * unless specified otherwise; requests for other sizes are served with new arrays or buffers and count as misses.
+ * </p>
+ *
+ * @since 2.9.0
+ */
+public class BufferPools {
+
+    /**
+     * Pools arrays and direct buffers of a single size and counts hits and misses.
+     */
+    private abstract static class AbstractBufferPool implements BufferPool {
+
+        private final int bufferSize;
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+
+        /**
+         * Constructs a new instance.
+         *
+         * @param bufferSize the size of pooled arrays.
+         */
+        protected AbstractBufferPool(final int bufferSize) {
+            if (bufferSize <= 0) {
+                throw new IllegalArgumentException("bufferSize must be greater than 0: " + bufferSize);
+            }
+            this.bufferSize = bufferSize;
+        }
+
+        @Override
+        public byte[] getByteArray(final int size) {
+            if (size == bufferSize) {
+                final byte[] array = pollByteArray();
+                if (array != null) {
+                    hitCount.increment();
+                    return array;
+                }
+            }
+            missCount.increment();
+            return new byte[size];
+        }
+
+        @Override
+        public char[] getCharArray(final int size) {
+            if (size == bufferSize) {
+                final char[] array = pollCharArray();
+                if (array != null) {
+                    hitCount.increment();
+                    return array;
+                }
+            }
+            missCount.increment();
+            return new char[size];
+        }
+
+        @Override
+        public ByteBuffer getDirectByteBuffer(final int capacity) {
+            if (capacity == bufferSize) {
+                final ByteBuffer buffer = pollDirectByteBuffer();
+                if (buffer != null) {
+                    hitCount.increment();
+                    buffer.clear();
+                    return buffer;
+                }
+            }
+            missCount.increment();
+            return ByteBuffer.allocateDirect(capacity);
+        }
+
+        @Override
+        public long getHitCount() {
+            return hitCount.sum();
+        }
+
+        @Override
+        public long getMissCount() {
+            return missCount.sum();
+        }
+
+        /**
+         * Offers a released byte array of the pooled size to the pool.
+         *
+         * @param array the array.
+         */
+        protected abstract void offerByteArray(byte[] array);
+
+        /**
+         * Offers a released char array of the pooled size to the pool.
+         *
+         * @param array the array.
+         */
+        protected abstract void offerCharArray(char[] array);
+
+        /**
+         * Offers a released direct buffer of the pooled size to the pool.
+         *
+         * @param buffer the buffer.
+         */
+        protected abstract void offerDirectByteBuffer(ByteBuffer buffer);
+
+        /**
+         * Takes a byte array out of the pool.
+         *
+         * @return an array or null if none is available.
+         */
+        protected abstract byte[] pollByteArray();
+
+        /**
+         * Takes a char array out of the pool.
+         *
+         * @return an array or null if none is available.
+         */
+        protected abstract char[] pollCharArray();
+
+        /**
+         * Takes a direct buffer out of the pool.
+         *
+         * @return a buffer or null if none is available.
+         */
+        protected abstract ByteBuffer pollDirectByteBuffer();
+
+        @Override
+        public void release(final byte[] array) {
+            if (array != null && array.length == bufferSize) {
+                offerByteArray(array);
+            }
+        }
+
+        @Override
+        public void release(final char[] array) {
+            if (array != null && array.length == bufferSize) {
+                offerCharArray(array);
+            }
+        }
+
+        @Override
+        public void release(final ByteBuffer buffer) {
+            if (buffer != null && buffer.isDirect() && buffer.capacity() == bufferSize) {
+                offerDirectByteBuffer(buffer);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s [bufferSize=%,d, hits=%,d, misses=%,d]", getClass().getSimpleName(),
+                Integer.valueOf(bufferSize), Long.valueOf(getHitCount()), Long.valueOf(getMissCount()));
+        }
+    }
+
+    /**
+     * Pools nothing, every request allocates a new array.
+     */
+    private static final class NoopBufferPool extends AbstractBufferPool {
+
+        NoopBufferPool() {
+            super(IOUtils.DEFAULT_BUFFER_SIZE);
+        }
+
+        @Override
+        protected void offerByteArray(final byte[] array) {
+            // noop
+        }
+
+        @Override
+        protected void offerCharArray(final char[] array) {
+            // noop
+        }
+
+        @Override
+        protected void offerDirectByteBuffer(final ByteBuffer buffer) {
+            // noop
+        }
+
+        @Override
+        protected byte[] pollByteArray() {
+            return null;
+        }
+
+        @Override
+        protected char[] pollCharArray() {
+            return null;
+        }
+
+        @Override
+        protected ByteBuffer pollDirectByteBuffer() {
+            return null;
+        }
+    }
+
+    /**
+     * Pools arrays in a fixed number of slots shared by all threads, a thread starts probing at a slot derived from its
+     * ID.
+     */
+    private static final class StripedBufferPool extends AbstractBufferPool {
+
+        private final AtomicReferenceArray<byte[]> byteArrays;
+        private final AtomicReferenceArray<char[]> charArrays;
+        private final AtomicReferenceArray<ByteBuffer> directByteBuffers;
+        private final int stripes;
+
+        StripedBufferPool(final int stripes, final int bufferSize) {
+            super(bufferSize);
+            if (stripes <= 0) {
+                throw new IllegalArgumentException("stripes must be greater than 0: " + stripes);
+            }
+            this.stripes = stripes;
+            this.byteArrays = new AtomicReferenceArray<>(stripes);
+            this.charArrays = new AtomicReferenceArray<>(stripes);
+            this.directByteBuffers = new AtomicReferenceArray<>(stripes);
+        }
+
+        private <T> void offer(final AtomicReferenceArray<T> slots, final T value) {
+            final int start = stripe();
+            for (int i = 0; i < PROBES; i++) {
+                if (slots.compareAndSet((start + i) % stripes, null, value)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        protected void offerByteArray(final byte[] array) {
+            offer(byteArrays, array);
+        }
+
+        @Override
+        protected void offerCharArray(final char[] array) {
+            offer(charArrays, array);
+        }
+
+        @Override
+        protected void offerDirectByteBuffer(final ByteBuffer buffer) {
+            offer(directByteBuffers, buffer);
+        }
+
+        private <T> T poll(final AtomicReferenceArray<T> slots) {
+            final int start = stripe();
+            for (int i = 0; i < PROBES; i++) {
+                final T value = slots.getAndSet((start + i) % stripes, null);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        protected byte[] pollByteArray() {
+            return poll(byteArrays);
+        }
+
+        @Override
+        protected char[] pollCharArray() {
+            return poll(charArrays);
+        }
+
+        @Override
+        protected ByteBuffer pollDirectByteBuffer() {
+            return poll(directByteBuffers);
+        }
+
+        private int stripe() {
+            return (int) (Thread.currentThread().getId() % stripes);
+        }
+    }
+
+    /**
+     * Pools up to two arrays or buffers of each kind per thread.
+     */
+    private static final class ThreadLocalBufferPool extends AbstractBufferPool {
+
+        /**
+         * The arrays and buffers available to one thread.
+         */
+        private static final class Slots {
+            final byte[][] byteArrays = new byte[PROBES][];
+            final char[][] charArrays = new char[PROBES][];
+            final ByteBuffer[] directByteBuffers = new ByteBuffer[PROBES];
+        }
+
+        private static <T> void offer(final T[] slots, final T value) {
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] == null) {
+                    slots[i] = value;
+                    return;
+                }
+            }
+        }
+
+        private static <T> T poll(final T[] slots) {
+            for (int i = 0; i < slots.length; i++) {
+                final T value = slots[i];
+                if (value != null) {
+                    slots[i] = null;
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        private final ThreadLocal<Slots> slots = ThreadLocal.withInitial(Slots::new);
+
+        ThreadLocalBufferPool(final int bufferSize) {
+            super(bufferSize);
+        }
+
+        @Override
+        protected void offerByteArray(final byte[] array) {
+            offer(slots.get().byteArrays, array);
+        }
+
+        @Override
+        protected void offerCharArray(final char[] array) {
+            offer(slots.get().charArrays, array);
+        }
+
+        @Override
+        protected void offerDirectByteBuffer(final ByteBuffer buffer) {
+            offer(slots.get().directByteBuffers, buffer);
+        }
+
+        @Override
+        protected byte[] pollByteArray() {
+            return poll(slots.get().byteArrays);
+        }
+
+        @Override
+        protected char[] pollCharArray() {
+            return poll(slots.get().charArrays);
+        }
+
+        @Override
+        protected ByteBuffer pollDirectByteBuffer() {
+            return poll(slots.get().directByteBuffers);
+        }
+    }
+
+    /**
+     * The number of arrays or buffers of each kind a thread can find without contention, two covers comparing two
+     * streams.
+     */
+    private static final int PROBES = 2;
+
+    /**
+     * Returns a new pool that pools nothing and allocates a new array or buffer for every request, this is the
+     * default.
+     *
+     * @return a new pool that pools nothing.
+     */
+    public static BufferPool noop() {
+        return new NoopBufferPool();
+    }
+
+    /**
+     * Returns a new pool that shares arrays and direct buffers of size {@link IOUtils#DEFAULT_BUFFER_SIZE} between all
+     * threads through the given number of lock-free slots.
+     *
+     * @param stripes the number of slots, typically about the number of threads doing I/O concurrently.
+     * @return a new striped pool.
+     * @throws IllegalArgumentException if {@code stripes} is not positive.
+     */
+    public static BufferPool striped(final int stripes) {
+        return striped(stripes, IOUtils.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns a new pool that shares arrays and direct buffers of the given size between all threads through the given
+     * number of lock-free slots.
+     *
+     * @param stripes the number of slots, typically about the number of threads doing I/O concurrently.
+     * @param bufferSize the size of pooled arrays.
+     * @return a new striped pool.
+     * @throws IllegalArgumentException if {@code stripes} or {@code bufferSize} is not positive.
+     */
+    public static BufferPool striped(final int stripes, final int bufferSize) {
+        return new StripedBufferPool(stripes, bufferSize);
+    }
+
+    /**
+     * Returns a new pool that keeps arrays and direct buffers of size {@link IOUtils#DEFAULT_BUFFER_SIZE} per thread.
+     * <p>
+     * Arrays and buffers stay reachable from their thread until it terminates, which suits a bounded set of long-lived
+     * threads.
+     * </p>
+     *
+     * @return a new thread-local pool.
+     */
+    public static BufferPool threadLocal() {
+        return threadLocal(IOUtils.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns a new pool that keeps arrays and direct buffers of the given size per thread.
+     * <p>
+     * Arrays and buffers stay reachable from their thread until it terminates, which suits a bounded set of long-lived
+     * threads.
+     * </p>
+     *
+     * @param bufferSize the size of pooled arrays.
+     * @return a new thread-local pool.
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive.
+     */
+    public static BufferPool threadLocal(final int bufferSize) {
+        return new ThreadLocalBufferPool(bufferSize);
+    }
+
+    /**
+     * Instances should NOT be constructed in standard programming.
+     */
+    private BufferPools() {
+        // no instances
+    }
+}
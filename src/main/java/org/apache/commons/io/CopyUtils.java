@@ -167,14 +167,19 @@ public static void copy(final byte[] input, final Writer output, final String en
      * @throws IOException In case of an I/O problem
      */
     public static int copy(final InputStream input, final OutputStream output) throws IOException {
-        final byte[] buffer = IOUtils.byteArray();
-        int count = 0;
-        int n = 0;
-        while (EOF != (n = input.read(buffer))) {
-            output.write(buffer, 0, n);
-            count += n;
+        final BufferPool pool = IOUtils.getBufferPool();
+        final byte[] buffer = pool.getByteArray(IOUtils.DEFAULT_BUFFER_SIZE);
+        try {
+            int count = 0;
+            int n = 0;
+            while (EOF != (n = input.read(buffer))) {
+                output.write(buffer, 0, n);
+                count += n;
+            }
+            return count;
+        } finally {
+            pool.release(buffer);
         }
-        return count;
     }
 
     // ----------------------------------------------------------------
@@ -192,14 +197,19 @@ public static int copy(
             final Reader input,
             final Writer output)
                 throws IOException {
-        final char[] buffer = new char[IOUtils.DEFAULT_BUFFER_SIZE];
-        int count = 0;
-        int n = 0;
-        while (EOF != (n = input.read(buffer))) {
-            output.write(buffer, 0, n);
-            count += n;
+        final BufferPool pool = IOUtils.getBufferPool();
+        final char[] buffer = pool.getCharArray(IOUtils.DEFAULT_BUFFER_SIZE);
+        try {
+            int count = 0;
+            int n = 0;
+            while (EOF != (n = input.read(buffer))) {
+                output.write(buffer, 0, n);
+                count += n;
+            }
+            return count;
+        } finally {
+            pool.release(buffer);
         }
-        return count;
     }
 
     // ----------------------------------------------------------------
@@ -36,6 +36,7 @@
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.CopyOption;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.NotDirectoryException;
@@ -55,6 +56,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.CRC32;
@@ -375,38 +377,30 @@ private static void cleanDirectoryOnExit(final File directory) throws IOExceptio
      * @see org.apache.commons.io.file.PathUtils#fileContentEquals(Path,Path,java.nio.file.LinkOption[],java.nio.file.OpenOption...)
      */
     public static boolean contentEquals(final File file1, final File file2) throws IOException {
-        if (file1 == null && file2 == null) {
-            return true;
-        }
-        if (file1 == null || file2 == null) {
-            return false;
-        }
-        final boolean file1Exists = file1.exists();
-        if (file1Exists != file2.exists()) {
-            return false;
-        }
-
-        if (!file1Exists) {
-            // two not existing files are equal
-            return true;
-        }
-
-        requireFile(file1, "file1");
-        requireFile(file2, "file2");
-
-        if (file1.length() != file2.length()) {
-            // lengths differ, cannot be equal
-            return false;
-        }
-
-        if (file1.getCanonicalFile().equals(file2.getCanonicalFile())) {
-            // same file
-            return true;
-        }
+        return fileContentEquals(file1, file2, null);
+    }
 
-        try (InputStream input1 = new FileInputStream(file1); InputStream input2 = new FileInputStream(file2)) {
-            return IOUtils.contentEquals(input1, input2);
-        }
+    /**
+     * Tests whether the contents of two files are equal, comparing ranges of the files in parallel on the given pool.
+     * <p>
+     * This method checks to see if the two files are different lengths or if they point to the same file, before
+     * comparing ranges of the contents in parallel, stopping at the first difference. This is meant for large files
+     * on storage that serves concurrent reads well, like SSDs.
+     * </p>
+     *
+     * @param file1 the first file
+     * @param file2 the second file
+     * @param pool the pool that runs the comparison tasks
+     * @return true if the content of the files are equal or they both don't exist, false otherwise
+     * @throws NullPointerException if the pool is null.
+     * @throws IllegalArgumentException when an input is not a file.
+     * @throws IOException If an I/O error occurs.
+     * @see org.apache.commons.io.file.PathUtils#fileContentEquals(Path,Path,java.nio.file.LinkOption[],java.nio.file.OpenOption[],ForkJoinPool)
+     * @since 2.9.0
+     */
+    public static boolean contentEquals(final File file1, final File file2, final ForkJoinPool pool)
+        throws IOException {
+        return fileContentEquals(file1, file2, Objects.requireNonNull(pool, "pool"));
     }
 
     /**
@@ -699,6 +693,47 @@ public static void copyDirectory(final File srcDir, final File destDir, final Fi
             preserveFileDate, preserveFileDate ? addCopyAttributes(copyOptions) : copyOptions);
     }
 
+    /**
+     * Copies a filtered directory to a new location, copying files on the given number of threads.
+     * <p>
+     * This method behaves like {@link #copyDirectory(File, File, FileFilter, boolean, CopyOption...)} except that
+     * files are copied concurrently while the calling thread walks the source directory and creates the destination
+     * directories. A failed file copy does not stop the others, all failures are reported together once the copy
+     * completes.
+     * </p>
+     *
+     * @param srcDir an existing directory to copy, must not be {@code null}
+     * @param destDir the new directory, must not be {@code null}
+     * @param fileFilter the filter to apply, null means copy all directories and files
+     * @param preserveFileDate true if the file date of the copy should be the same as the original
+     * @param parallelism the number of threads copying files.
+     * @param copyOptions options specifying how the copy should be done, for example {@link StandardCopyOption}.
+     * @return the counts of the copied directories, files and bytes.
+     * @throws NullPointerException if any of the given {@code File}s are {@code null}.
+     * @throws IllegalArgumentException if the source or destination is invalid or {@code parallelism} is not
+     *         positive.
+     * @throws FileNotFoundException if the source does not exist.
+     * @throws IOException if an error occurs, an {@link IOExceptionList} if any file copy failed.
+     * @see PathUtils#copyDirectory(Path, Path, PathFilter, PathFilter, int, CopyOption...)
+     * @since 2.9.0
+     */
+    public static Counters.PathCounters copyDirectory(final File srcDir, final File destDir,
+        final FileFilter fileFilter, final boolean preserveFileDate, final int parallelism,
+        final CopyOption... copyOptions) throws IOException {
+        requireFileCopy(srcDir, destDir);
+        requireDirectory(srcDir, "srcDir");
+        requireCanonicalPathsNotEquals(srcDir, destDir);
+        requireDirectoryIfExists(destDir, "destDir");
+        mkdirs(destDir);
+        requireCanWrite(destDir, "destDir");
+        // a rejected directory is skipped with its contents, not the whole copy
+        final PathFilter pathFilter = fileFilter == null ? TrueFileFilter.INSTANCE
+            : (path, attributes) -> fileFilter.accept(path.toFile()) ? FileVisitResult.CONTINUE
+                : FileVisitResult.SKIP_SUBTREE;
+        return PathUtils.copyDirectory(srcDir.toPath(), destDir.toPath(), pathFilter, pathFilter, parallelism,
+            preserveFileDate ? addCopyAttributes(copyOptions) : copyOptions);
+    }
+
     /**
      * Copies a directory to within another directory preserving the file dates.
      * <p>
@@ -1318,6 +1353,56 @@ private static void doCopyDirectory(final File srcDir, final File destDir, final
         }
     }
 
+    /**
+     * Tests whether the contents of two files are equal, in parallel ranges if a pool is given.
+     *
+     * @param file1 the first file
+     * @param file2 the second file
+     * @param pool the pool that runs the comparison tasks, null to compare streams on the calling thread
+     * @return true if the content of the files are equal or they both don't exist, false otherwise
+     * @throws IllegalArgumentException when an input is not a file.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static boolean fileContentEquals(final File file1, final File file2, final ForkJoinPool pool)
+        throws IOException {
+        if (file1 == null && file2 == null) {
+            return true;
+        }
+        if (file1 == null || file2 == null) {
+            return false;
+        }
+        final boolean file1Exists = file1.exists();
+        if (file1Exists != file2.exists()) {
+            return false;
+        }
+
+        if (!file1Exists) {
+            // two not existing files are equal
+            return true;
+        }
+
+        requireFile(file1, "file1");
+        requireFile(file2, "file2");
+
+        if (file1.length() != file2.length()) {
+            // lengths differ, cannot be equal
+            return false;
+        }
+
+        if (file1.getCanonicalFile().equals(file2.getCanonicalFile())) {
+            // same file
+            return true;
+        }
+
+        if (pool != null) {
+            return PathUtils.fileContentEquals(file1.toPath(), file2.toPath(), PathUtils.EMPTY_LINK_OPTION_ARRAY,
+                PathUtils.EMPTY_OPEN_OPTION_ARRAY, pool);
+        }
+        try (InputStream input1 = new FileInputStream(file1); InputStream input2 = new FileInputStream(file2)) {
+            return IOUtils.contentEquals(input1, input2);
+        }
+    }
+
     /**
      * Deletes a file or directory. For a directory, delete it and all sub-directories.
      * <p>
@@ -2969,7 +3054,7 @@ public static Stream<File> streamFiles(final File directory, final boolean recur
         throws IOException {
         final IOFileFilter filter = extensions == null ? FileFileFilter.INSTANCE
             : FileFileFilter.INSTANCE.and(new SuffixFileFilter(toSuffixes(extensions)));
-        return PathUtils.walk(directory.toPath(), filter, toMaxDepth(recursive), false).map(Path::toFile);
+        return PathUtils.walk(directory.toPath(), filter, toMaxDepth(recursive), true).map(Path::toFile);
     }
 
     /**
@@ -25,6 +25,8 @@
 import java.io.Closeable;
 import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -40,20 +42,26 @@
 import java.net.URLConnection;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.Selector;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 
 import org.apache.commons.io.function.IOConsumer;
+import org.apache.commons.io.input.BufferedFileChannelInputStream;
+import org.apache.commons.io.input.UnsynchronizedByteArrayInputStream;
 import org.apache.commons.io.output.AppendableWriter;
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.commons.io.output.NullOutputStream;
 import org.apache.commons.io.output.StringBuilderWriter;
+import org.apache.commons.io.output.UnsynchronizedByteArrayOutputStream;
 
 /**
  * General IO stream manipulation utilities.
@@ -179,6 +187,12 @@ public class IOUtils {
      */
     private static final byte[] SKIP_BYTE_BUFFER = byteArray();
 
+    /**
+     * The maximum number of bytes ({@value}) to request in a single {@link FileChannel#transferTo(long, long,
+     * java.nio.channels.WritableByteChannel)} call; larger copies are done in chunks of this size.
+     */
+    static final long TRANSFER_CHUNK_SIZE = 64 * 1024 * 1024;
+
     // Allocated in the relevant skip method if necessary.
     /*
      * These buffers are static and are shared between threads.
@@ -192,6 +206,22 @@ public class IOUtils {
      */
     private static char[] SKIP_CHAR_BUFFER;
 
+    /**
+     * The pool providing the internal buffers of copy and compare methods.
+     */
+    private static volatile BufferPool bufferPool = BufferPools.noop();
+
+    /**
+     * The largest size hint trusted to pre-size a byte array, larger streams cannot fit in an array anyway.
+     */
+    private static final long MAX_SIZE_HINT = Integer.MAX_VALUE - 8;
+
+    /**
+     * The largest untrusted size hint, such as a Content-Length header, used to pre-size a byte array, larger contents
+     * are read into buffers grown as bytes arrive.
+     */
+    private static final int MAX_UNTRUSTED_SIZE_HINT = 1 << 20;
+
     /**
      * Returns the given InputStream if it is already a {@link BufferedInputStream}, otherwise creates a
      * BufferedInputStream from the given InputStream.
@@ -782,38 +812,104 @@ public static boolean contentEquals(final InputStream input1, final InputStream
             return false;
         }
 
-        final byte[] array1 = byteArray();
-        final byte[] array2 = byteArray();
-        int pos1;
-        int pos2;
-        int count1;
-        int count2;
+        final BufferPool pool = bufferPool;
+        final byte[] array1 = pool.getByteArray(DEFAULT_BUFFER_SIZE);
+        final byte[] array2 = pool.getByteArray(DEFAULT_BUFFER_SIZE);
+        try {
+            return contentEquals(input1, input2, array1, array2);
+        } finally {
+            pool.release(array1);
+            pool.release(array2);
+        }
+    }
+
+    private static boolean contentEquals(final InputStream input1, final InputStream input2, final byte[] array1,
+        final byte[] array2) throws IOException {
+        // Both arrays share one index space: [0, pos) is compared, [pos, limitN) is read but not compared yet.
+        final int size = array1.length;
+        int pos = 0;
+        int limit1 = 0;
+        int limit2 = 0;
+        int count;
         while (true) {
-            pos1 = 0;
-            pos2 = 0;
-            for (int index = 0; index < DEFAULT_BUFFER_SIZE; index++) {
-                if (pos1 == index) {
-                    do {
-                        count1 = input1.read(array1, pos1, DEFAULT_BUFFER_SIZE - pos1);
-                    } while (count1 == 0);
-                    if (count1 == EOF) {
-                        return pos2 == index && input2.read() == EOF;
-                    }
-                    pos1 += count1;
+            if (pos == size) {
+                pos = 0;
+                limit1 = 0;
+                limit2 = 0;
+            }
+            if (limit1 == pos) {
+                do {
+                    count = input1.read(array1, limit1, size - limit1);
+                } while (count == 0);
+                if (count == EOF) {
+                    return limit2 == pos && input2.read() == EOF;
                 }
-                if (pos2 == index) {
-                    do {
-                        count2 = input2.read(array2, pos2, DEFAULT_BUFFER_SIZE - pos2);
-                    } while (count2 == 0);
-                    if (count2 == EOF) {
-                        return pos1 == index && input1.read() == EOF;
-                    }
-                    pos2 += count2;
+                limit1 += count;
+            }
+            if (limit2 == pos) {
+                do {
+                    count = input2.read(array2, limit2, size - limit2);
+                } while (count == 0);
+                if (count == EOF) {
+                    return limit1 == pos && input1.read() == EOF;
                 }
-                if (array1[index] != array2[index]) {
+                limit2 += count;
+            }
+            final int end = Math.min(limit1, limit2);
+            if (!ByteArrays.rangeEquals(array1, array2, pos, end)) {
+                return false;
+            }
+            pos = end;
+        }
+    }
+
+    /**
+     * Compares the contents of two channels to determine if they are equal or not.
+     * <p>
+     * This method reads both channels through direct byte buffers taken from the {@link #getBufferPool() buffer pool},
+     * so the bytes are not copied through the Java heap. Both channels are read until a difference is found or both
+     * reach the end of the stream, the channels must be in blocking mode.
+     * </p>
+     *
+     * @param input1 the first channel
+     * @param input2 the second channel
+     * @return true if the content of the channels are equal or they both don't exist, false otherwise
+     * @throws IOException if an I/O error occurs
+     * @since 2.9.0
+     */
+    public static boolean contentEquals(final ReadableByteChannel input1, final ReadableByteChannel input2)
+        throws IOException {
+        if (input1 == input2) {
+            return true;
+        }
+        if (input1 == null || input2 == null) {
+            return false;
+        }
+        final BufferPool pool = bufferPool;
+        final ByteBuffer buffer1 = pool.getDirectByteBuffer(DEFAULT_BUFFER_SIZE);
+        final ByteBuffer buffer2 = pool.getDirectByteBuffer(DEFAULT_BUFFER_SIZE);
+        try {
+            while (true) {
+                final int count1 = read(input1, buffer1);
+                final int count2 = read(input2, buffer2);
+                if (count1 != count2) {
                     return false;
                 }
+                buffer1.flip();
+                buffer2.flip();
+                if (!buffer1.equals(buffer2)) {
+                    return false;
+                }
+                if (count1 < DEFAULT_BUFFER_SIZE) {
+                    // both reached the end of the stream
+                    return true;
+                }
+                buffer1.clear();
+                buffer2.clear();
             }
+        } finally {
+            pool.release(buffer1);
+            pool.release(buffer2);
         }
     }
 
@@ -838,8 +934,19 @@ public static boolean contentEquals(final Reader input1, final Reader input2) th
             return false;
         }
 
-        final char[] array1 = new char[DEFAULT_BUFFER_SIZE];
-        final char[] array2 = new char[DEFAULT_BUFFER_SIZE];
+        final BufferPool pool = bufferPool;
+        final char[] array1 = pool.getCharArray(DEFAULT_BUFFER_SIZE);
+        final char[] array2 = pool.getCharArray(DEFAULT_BUFFER_SIZE);
+        try {
+            return contentEquals(input1, input2, array1, array2);
+        } finally {
+            pool.release(array1);
+            pool.release(array2);
+        }
+    }
+
+    private static boolean contentEquals(final Reader input1, final Reader input2, final char[] array1,
+        final char[] array2) throws IOException {
         int pos1;
         int pos2;
         int count1;
@@ -953,7 +1060,13 @@ public static int copy(final InputStream inputStream, final OutputStream outputS
      */
     public static long copy(final InputStream inputStream, final OutputStream outputStream, final int bufferSize)
             throws IOException {
-        return copyLarge(inputStream, outputStream, IOUtils.byteArray(bufferSize));
+        final BufferPool pool = bufferPool;
+        final byte[] buffer = pool.getByteArray(bufferSize);
+        try {
+            return copyLarge(inputStream, outputStream, buffer);
+        } finally {
+            pool.release(buffer);
+        }
     }
 
     /**
@@ -1027,6 +1140,76 @@ public static void copy(final InputStream input, final Writer writer, final Stri
         copy(input, writer, Charsets.toCharset(inputCharsetName));
     }
 
+    /**
+     * Copies bytes from a {@code ReadableByteChannel} to a {@code WritableByteChannel}.
+     * <p>
+     * A {@link FileChannel} input is copied with
+     * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which lets the operating system
+     * move the bytes without copying them through the Java heap. Other channels are copied through a direct byte
+     * buffer of {@link #DEFAULT_BUFFER_SIZE} bytes taken from the {@link #getBufferPool() buffer pool}.
+     * </p>
+     * <p>
+     * Both channels must be in blocking mode.
+     * </p>
+     *
+     * @param input the {@code ReadableByteChannel} to read.
+     * @param output the {@code WritableByteChannel} to write.
+     * @return the number of bytes copied.
+     * @throws NullPointerException if the input or output is null.
+     * @throws IOException if an I/O error occurs.
+     * @since 2.9.0
+     */
+    public static long copy(final ReadableByteChannel input, final WritableByteChannel output) throws IOException {
+        final BufferPool pool = bufferPool;
+        final ByteBuffer buffer = pool.getDirectByteBuffer(DEFAULT_BUFFER_SIZE);
+        try {
+            return copy(input, output, buffer);
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    /**
+     * Copies bytes from a {@code ReadableByteChannel} to a {@code WritableByteChannel} using the given buffer.
+     * <p>
+     * A {@link FileChannel} input is copied with
+     * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which lets the operating system
+     * move the bytes without copying them through the Java heap. Other channels are copied through the given buffer,
+     * which should be a direct buffer to avoid copies through the Java heap. The content, position and limit of the
+     * buffer are overwritten.
+     * </p>
+     * <p>
+     * Both channels must be in blocking mode.
+     * </p>
+     *
+     * @param input the {@code ReadableByteChannel} to read.
+     * @param output the {@code WritableByteChannel} to write.
+     * @param buffer the buffer to use for the copy.
+     * @return the number of bytes copied.
+     * @throws NullPointerException if the input, output or buffer is null.
+     * @throws IOException if an I/O error occurs.
+     * @since 2.9.0
+     */
+    public static long copy(final ReadableByteChannel input, final WritableByteChannel output, final ByteBuffer buffer)
+        throws IOException {
+        Objects.requireNonNull(output, "output");
+        long count = 0;
+        if (input instanceof FileChannel) {
+            count = transfer((FileChannel) input, output, -1);
+        }
+        buffer.clear();
+        int n;
+        while (EOF != (n = input.read(buffer))) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                output.write(buffer);
+            }
+            buffer.clear();
+            count += n;
+        }
+        return count;
+    }
+
     /**
      * Copies chars from a {@code Reader} to a {@code Appendable}.
      * <p>
@@ -1046,7 +1229,13 @@ public static void copy(final InputStream input, final Writer writer, final Stri
      * @since 2.7
      */
     public static long copy(final Reader reader, final Appendable output) throws IOException {
-        return copy(reader, output, CharBuffer.allocate(DEFAULT_BUFFER_SIZE));
+        final BufferPool pool = bufferPool;
+        final char[] buffer = pool.getCharArray(DEFAULT_BUFFER_SIZE);
+        try {
+            return copy(reader, output, CharBuffer.wrap(buffer));
+        } finally {
+            pool.release(buffer);
+        }
     }
 
     /**
@@ -1221,6 +1410,11 @@ public static long copyLarge(final InputStream inputStream, final OutputStream o
      * This method uses the provided buffer, so there is no need to use a
      * {@code BufferedInputStream}.
      * </p>
+     * <p>
+     * If the input is a {@link FileInputStream} or a {@link BufferedFileChannelInputStream} and the output is a
+     * {@link FileOutputStream}, bytes are transferred between the underlying {@link FileChannel}s without going
+     * through the buffer.
+     * </p>
      *
      * @param inputStream the {@code InputStream} to read.
      * @param outputStream the {@code OutputStream} to write.
@@ -1236,7 +1430,7 @@ public static long copyLarge(final InputStream inputStream, final OutputStream o
         throws IOException {
         Objects.requireNonNull(inputStream, "inputStream");
         Objects.requireNonNull(outputStream, "outputStream");
-        long count = 0;
+        long count = transferFileChannels(inputStream, outputStream, -1);
         int n;
         while (EOF != (n = inputStream.read(buffer))) {
             outputStream.write(buffer, 0, n);
@@ -1271,7 +1465,13 @@ public static long copyLarge(final InputStream inputStream, final OutputStream o
      */
     public static long copyLarge(final InputStream input, final OutputStream output, final long inputOffset,
                                  final long length) throws IOException {
-        return copyLarge(input, output, inputOffset, length, byteArray());
+        final BufferPool pool = bufferPool;
+        final byte[] buffer = pool.getByteArray(DEFAULT_BUFFER_SIZE);
+        try {
+            return copyLarge(input, output, inputOffset, length, buffer);
+        } finally {
+            pool.release(buffer);
+        }
     }
 
     /**
@@ -1306,13 +1506,16 @@ public static long copyLarge(final InputStream input, final OutputStream output,
         if (length == 0) {
             return 0;
         }
+        long totalRead = transferFileChannels(input, output, length);
+        if (totalRead == length) {
+            return totalRead;
+        }
         final int bufferLength = buffer.length;
         int bytesToRead = bufferLength;
-        if (length > 0 && length < bufferLength) {
-            bytesToRead = (int) length;
+        if (length > 0 && length - totalRead < bufferLength) {
+            bytesToRead = (int) (length - totalRead);
         }
         int read;
-        long totalRead = 0;
         while (bytesToRead > 0 && EOF != (read = input.read(buffer, 0, bytesToRead))) {
             output.write(buffer, 0, read);
             totalRead += read;
@@ -1340,7 +1543,13 @@ public static long copyLarge(final InputStream input, final OutputStream output,
      * @since 1.3
      */
     public static long copyLarge(final Reader reader, final Writer writer) throws IOException {
-        return copyLarge(reader, writer, new char[DEFAULT_BUFFER_SIZE]);
+        final BufferPool pool = bufferPool;
+        final char[] buffer = pool.getCharArray(DEFAULT_BUFFER_SIZE);
+        try {
+            return copyLarge(reader, writer, buffer);
+        } finally {
+            pool.release(buffer);
+        }
     }
 
     /**
@@ -1389,7 +1598,13 @@ public static long copyLarge(final Reader reader, final Writer writer, final cha
      */
     public static long copyLarge(final Reader reader, final Writer writer, final long inputOffset, final long length)
             throws IOException {
-        return copyLarge(reader, writer, inputOffset, length, new char[DEFAULT_BUFFER_SIZE]);
+        final BufferPool pool = bufferPool;
+        final char[] buffer = pool.getCharArray(DEFAULT_BUFFER_SIZE);
+        try {
+            return copyLarge(reader, writer, inputOffset, length, buffer);
+        } finally {
+            pool.release(buffer);
+        }
     }
 
     /**
@@ -1437,6 +1652,39 @@ public static long copyLarge(final Reader reader, final Writer writer, final lon
         return totalRead;
     }
 
+    /**
+     * Reads bytes from a stream into a buffer until the buffer is full or the end of the stream, through an array
+     * taken from the buffer pool.
+     *
+     * @param input the stream to read.
+     * @param buffer the buffer to fill.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void fill(final InputStream input, final ByteBuffer buffer) throws IOException {
+        final BufferPool pool = bufferPool;
+        final byte[] array = pool.getByteArray(DEFAULT_BUFFER_SIZE);
+        try {
+            int n;
+            while (buffer.hasRemaining() && EOF != (n = input.read(array, 0, Math.min(array.length,
+                buffer.remaining())))) {
+                buffer.put(array, 0, n);
+            }
+        } finally {
+            pool.release(array);
+        }
+    }
+
+    /**
+     * Gets the pool providing the internal buffers of the copy and compare methods.
+     *
+     * @return the buffer pool, never null.
+     * @see #setBufferPool(BufferPool)
+     * @since 2.9.0
+     */
+    public static BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
     /**
      * Returns the length of the given array in a null-safe manner.
      *
@@ -2032,6 +2280,22 @@ public static URL resourceToURL(final String name, final ClassLoader classLoader
         return resource;
     }
 
+    /**
+     * Sets the pool providing the internal buffers of the copy and compare methods of this class, {@link FileUtils} and
+     * {@link CopyUtils}.
+     * <p>
+     * The default pool, {@link BufferPools#noop()}, allocates new buffers for every call. Methods that take a buffer
+     * argument use the given buffer and do not touch the pool.
+     * </p>
+     *
+     * @param bufferPool the buffer pool, null resets the default.
+     * @see BufferPools
+     * @since 2.9.0
+     */
+    public static void setBufferPool(final BufferPool bufferPool) {
+        IOUtils.bufferPool = bufferPool != null ? bufferPool : BufferPools.noop();
+    }
+
     /**
      * Skips bytes from an input byte stream.
      * This implementation guarantees that it will read as many bytes
@@ -2225,6 +2489,28 @@ public static void skipFully(final Reader reader, final long toSkip) throws IOEx
         }
     }
 
+    /**
+     * Gets the number of bytes remaining in a stream if it can be known without reading it.
+     *
+     * @param input the stream.
+     * @return the number of remaining bytes, or -1 if unknown.
+     */
+    @SuppressWarnings("resource") // the channel is owned by the stream.
+    private static long sizeHint(final InputStream input) {
+        try {
+            if (input.getClass() == FileInputStream.class) {
+                final FileChannel channel = ((FileInputStream) input).getChannel();
+                return Math.max(-1, channel.size() - channel.position());
+            }
+            if (input instanceof ByteArrayInputStream || input instanceof UnsynchronizedByteArrayInputStream) {
+                return input.available();
+            }
+        } catch (final IOException e) {
+            // Not a regular file, or closed: reading will tell.
+        }
+        return -1;
+    }
+
     /**
      * Fetches entire contents of an {@code InputStream} and represent
      * same data as result InputStream.
@@ -2311,6 +2597,10 @@ public static BufferedReader toBufferedReader(final Reader reader, final int siz
      * This method buffers the input internally, so there is no need to use a
      * {@code BufferedInputStream}.
      * </p>
+     * <p>
+     * When the number of remaining bytes is known upfront, for a {@link FileInputStream} or an in-memory stream, the
+     * bytes are read straight into an array of that size.
+     * </p>
      *
      * @param inputStream the {@code InputStream} to read.
      * @return the requested byte array.
@@ -2318,10 +2608,7 @@ public static BufferedReader toBufferedReader(final Reader reader, final int siz
      * @throws IOException if an I/O error occurs.
      */
     public static byte[] toByteArray(final InputStream inputStream) throws IOException {
-        try (final ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            copy(inputStream, output);
-            return output.toByteArray();
-        }
+        return toByteArrayWithSizeHint(inputStream, sizeHint(Objects.requireNonNull(inputStream, "inputStream")));
     }
 
     /**
@@ -2509,7 +2796,123 @@ public static byte[] toByteArray(final URL url) throws IOException {
      */
     public static byte[] toByteArray(final URLConnection urlConn) throws IOException {
         try (InputStream inputStream = urlConn.getInputStream()) {
-            return IOUtils.toByteArray(inputStream);
+            final long contentLength = urlConn.getContentLengthLong();
+            if (contentLength > MAX_UNTRUSTED_SIZE_HINT) {
+                // the header may be wrong, don't allocate it all before the bytes arrive
+                try (final UnsynchronizedByteArrayOutputStream output = new UnsynchronizedByteArrayOutputStream(
+                    MAX_UNTRUSTED_SIZE_HINT)) {
+                    output.write(inputStream);
+                    return output.toByteArray();
+                }
+            }
+            return toByteArrayWithSizeHint(inputStream, contentLength >= 0 ? contentLength : sizeHint(inputStream));
+        }
+    }
+
+    /**
+     * Gets the contents of an {@code InputStream} as a direct {@code ByteBuffer}.
+     * <p>
+     * The direct buffer is allocated once: sized from the stream when its size is known, otherwise after the stream is
+     * read on the heap. A {@link FileInputStream} is read through its channel, so the bytes are not copied through the
+     * Java heap; other streams are read through an array taken from the {@link #getBufferPool() buffer pool}.
+     * </p>
+     *
+     * @param inputStream the {@code InputStream} to read.
+     * @return a direct buffer positioned at zero with the bytes read up to its limit.
+     * @throws NullPointerException if the InputStream is {@code null}.
+     * @throws IllegalArgumentException if the stream holds more bytes than fit in a buffer.
+     * @throws IOException if an I/O error occurs.
+     * @since 2.9.0
+     */
+    @SuppressWarnings("resource") // the channel belongs to the stream, which the caller owns.
+    public static ByteBuffer toByteBuffer(final InputStream inputStream) throws IOException {
+        final long sizeHint = sizeHint(Objects.requireNonNull(inputStream, "inputStream"));
+        if (sizeHint < 0 || sizeHint > MAX_SIZE_HINT) {
+            return toDirectByteBuffer(null, toByteArray(inputStream), inputStream);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocateDirect((int) sizeHint);
+        if (inputStream.getClass() == FileInputStream.class) {
+            read(((FileInputStream) inputStream).getChannel(), buffer);
+        } else {
+            fill(inputStream, buffer);
+        }
+        if (!buffer.hasRemaining()) {
+            // full: probe for the end of the stream before growing, once
+            final int next = inputStream.read();
+            if (next != EOF) {
+                try (final UnsynchronizedByteArrayOutputStream rest = new UnsynchronizedByteArrayOutputStream()) {
+                    rest.write(next);
+                    rest.write(inputStream);
+                    buffer.flip();
+                    return toDirectByteBuffer(buffer, rest.toByteArray(), inputStream);
+                }
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Copies the remaining bytes of a buffer followed by the bytes of an array into a new direct buffer of their exact
+     * size.
+     *
+     * @param head the buffer to copy first, may be null.
+     * @param tail the array to copy next.
+     * @param inputStream the stream the bytes were read from, for the exception message.
+     * @return a direct buffer positioned at zero.
+     * @throws IllegalArgumentException if the bytes do not fit in a buffer.
+     */
+    private static ByteBuffer toDirectByteBuffer(final ByteBuffer head, final byte[] tail,
+        final InputStream inputStream) {
+        final long size = (head == null ? 0L : head.remaining()) + tail.length;
+        if (size > MAX_SIZE_HINT) {
+            throw new IllegalArgumentException("Stream does not fit in a ByteBuffer: " + inputStream);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+        if (head != null) {
+            buffer.put(head);
+        }
+        buffer.put(tail);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Reads the remaining bytes of the input into an array, pre-sized with the given hint. The hint only affects
+     * performance: a stream shorter or longer than the hint is still read to the end.
+     *
+     * @param input the stream to read.
+     * @param sizeHint the expected number of bytes, negative if unknown.
+     * @return the bytes read.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static byte[] toByteArrayWithSizeHint(final InputStream input, final long sizeHint) throws IOException {
+        if (sizeHint < 0 || sizeHint > MAX_SIZE_HINT) {
+            try (final UnsynchronizedByteArrayOutputStream output = new UnsynchronizedByteArrayOutputStream()) {
+                output.write(input);
+                return output.toByteArray();
+            }
+        }
+        final int size = (int) sizeHint;
+        final byte[] data = size == 0 ? EMPTY_BYTE_ARRAY : byteArray(size);
+        int offset = 0;
+        int read;
+        while (offset < size && (read = input.read(data, offset, size - offset)) != EOF) {
+            offset += read;
+        }
+        if (offset < size) {
+            return Arrays.copyOf(data, offset);
+        }
+        final int next = input.read();
+        if (next == EOF) {
+            return data;
+        }
+        try (final UnsynchronizedByteArrayOutputStream output = new UnsynchronizedByteArrayOutputStream(
+            Math.max(size + 1, DEFAULT_BUFFER_SIZE))) {
+            output.write(data, 0, size);
+            output.write(next);
+            output.write(input);
+            return output.toByteArray();
         }
     }
 
@@ -2893,6 +3296,69 @@ public static String toString(final URL url, final String charsetName) throws IO
         return toString(url, Charsets.toCharset(charsetName));
     }
 
+    /**
+     * Copies bytes from a {@link FileChannel} to a {@link WritableByteChannel} using
+     * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which lets the operating system
+     * move the bytes without copying them through the Java heap.
+     * <p>
+     * The copy starts at the source's current position, advances the source position by the number of bytes
+     * transferred, and stops at the source's size as seen when the copy started, when {@code length} bytes have been
+     * transferred, or when the channel transfers no bytes. Callers are expected to finish any remaining bytes through
+     * the regular stream path.
+     * </p>
+     *
+     * @param source the channel to read from.
+     * @param target the channel to write to.
+     * @param length the maximum number of bytes to copy, negative means all.
+     * @return the number of bytes transferred.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static long transfer(final FileChannel source, final WritableByteChannel target, final long length)
+        throws IOException {
+        final long start = source.position();
+        final long end = length < 0 ? source.size() : Math.min(source.size(), start + length);
+        long position = start;
+        while (position < end) {
+            final long transferred = source.transferTo(position, Math.min(end - position, TRANSFER_CHUNK_SIZE), target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+        source.position(position);
+        return position - start;
+    }
+
+    /**
+     * Copies bytes between file-backed streams through their channels if both ends support it.
+     * <p>
+     * The fast path is taken when the output is exactly a {@link FileOutputStream} and the input is either exactly a
+     * {@link FileInputStream} or a {@link BufferedFileChannelInputStream}; subclasses of the file streams may override
+     * {@code read} or {@code write} and are left alone. Otherwise nothing is copied.
+     * </p>
+     *
+     * @param input the stream to read from.
+     * @param output the stream to write to.
+     * @param length the maximum number of bytes to copy, negative means all.
+     * @return the number of bytes copied, possibly less than requested; the caller copies the rest.
+     * @throws IOException if an I/O error occurs.
+     */
+    @SuppressWarnings("resource") // channels are owned by the streams.
+    private static long transferFileChannels(final InputStream input, final OutputStream output, final long length)
+        throws IOException {
+        if (output.getClass() != FileOutputStream.class) {
+            return 0;
+        }
+        final FileChannel target = ((FileOutputStream) output).getChannel();
+        if (input.getClass() == FileInputStream.class) {
+            return transfer(((FileInputStream) input).getChannel(), target, length);
+        }
+        if (input instanceof BufferedFileChannelInputStream) {
+            return ((BufferedFileChannelInputStream) input).transferTo(target, length);
+        }
+        return 0;
+    }
+
     /**
      * Writes bytes from a {@code byte[]} to an {@code OutputStream}.
      *
@@ -2973,6 +3439,49 @@ public static void write(final byte[] data, final Writer writer, final String ch
         write(data, writer, Charsets.toCharset(charsetName));
     }
 
+    /**
+     * Writes the remaining bytes of a {@code ByteBuffer} to an {@code OutputStream}.
+     * <p>
+     * A buffer backed by an accessible array is written with a single call. The bytes of a direct buffer are written
+     * through the channel of a {@link FileOutputStream}, but not of a subclass, which may override {@code write}, and
+     * otherwise copied to the stream through an internal byte array. The buffer position is advanced to its limit.
+     * </p>
+     *
+     * @param data the buffer to write, null ignored
+     * @param output the {@code OutputStream} to write to
+     * @throws NullPointerException if output is null
+     * @throws IOException if an I/O error occurs
+     * @since 2.9.0
+     */
+    @SuppressWarnings("resource") // the channel is owned by the stream.
+    public static void write(final ByteBuffer data, final OutputStream output) throws IOException {
+        if (data == null) {
+            return;
+        }
+        Objects.requireNonNull(output, "output");
+        if (data.hasArray()) {
+            output.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            data.position(data.limit());
+        } else if (output.getClass() == FileOutputStream.class) {
+            final FileChannel channel = ((FileOutputStream) output).getChannel();
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        } else {
+            final BufferPool pool = bufferPool;
+            final byte[] buffer = pool.getByteArray(DEFAULT_BUFFER_SIZE);
+            try {
+                while (data.hasRemaining()) {
+                    final int n = Math.min(data.remaining(), buffer.length);
+                    data.get(buffer, 0, n);
+                    output.write(buffer, 0, n);
+                }
+            } finally {
+                pool.release(buffer);
+            }
+        }
+    }
+
     /**
      * Writes chars from a {@code char[]} to bytes on an
      * {@code OutputStream}.
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Compares file contents for {@link PathUtils}.
+ * <p>
+ * The multi-release JAR replaces this class with ones based on {@code ByteBuffer.mismatch} on Java 11 and above and
+ * on {@code Files.mismatch} on Java 17 and above, see {@code src/main/java11} and {@code src/main/java17}.
+ * </p>
+ */
+final class FileContents {
+
+    /**
+     * Compares the first bytes of two buffers a long at a time.
+     *
+     * @param buffer1 the first buffer.
+     * @param buffer2 the second buffer.
+     * @param length the number of bytes to compare.
+     * @return whether the bytes are equal.
+     */
+    static boolean equals(final ByteBuffer buffer1, final ByteBuffer buffer2, final int length) {
+        int i = 0;
+        for (; i <= length - Long.BYTES; i += Long.BYTES) {
+            if (buffer1.getLong(i) != buffer2.getLong(i)) {
+                return false;
+            }
+        }
+        for (; i < length; i++) {
+            if (buffer1.get(i) != buffer2.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares the contents of two regular files of the same size on the calling thread.
+     *
+     * @param path1 the first file.
+     * @param path2 the second file.
+     * @param openOptions options specifying how files are opened.
+     * @return whether the contents are equal.
+     * @throws IOException if an I/O error occurs.
+     */
+    static boolean equals(final Path path1, final Path path2, final OpenOption[] openOptions) throws IOException {
+        try (final InputStream inputStream1 = Files.newInputStream(path1, openOptions);
+            final InputStream inputStream2 = Files.newInputStream(path2, openOptions)) {
+            return IOUtils.contentEquals(inputStream1, inputStream2);
+        }
+    }
+
+    private FileContents() {
+        // no instances
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.io.file;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.CopyOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOExceptionList;
+import org.apache.commons.io.file.Counters.PathCounters;
+import org.apache.commons.io.filefilter.TrueFileFilter;
+
+/**
+ * Copies a source directory to a target directory, copying files on an {@link Executor}.
+ * <p>
+ * The visit itself runs on the calling thread and creates each target directory before submitting the files it
+ * contains, so a copy task always finds its parent directory. At most {@code maxPending} copies are queued or running
+ * at any time, the visit blocks until a slot is free. The visit of the source directory completes once all copies
+ * are done; failed copies do not stop the others and are reported together as an {@link IOExceptionList}.
+ * </p>
+ * <p>
+ * If the copy options contain {@link StandardCopyOption#COPY_ATTRIBUTES}, the last modified times of the target
+ * directories are set from their source directories once all files are copied.
+ * </p>
+ * <p>
+ * If the target directory is inside the source directory, the copies of the source directory's entries are not
+ * copied again.
+ * </p>
+ *
+ * @since 2.9.0
+ */
+public class ParallelCopyDirectoryVisitor extends CopyDirectoryVisitor {
+
+    private final PathFilter dirFilter;
+    private final List<IOException> exceptions = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Path> exclusions = new HashSet<>();
+    private final Executor executor;
+    private final PathFilter fileFilter;
+    private final int maxPending;
+    private final Semaphore pending;
+    private final boolean preserveDirectoryTimes;
+    private final List<Path> visitedDirectories = new ArrayList<>();
+
+    /**
+     * Constructs a new visitor that copies all files and directories.
+     *
+     * @param pathCounter How to count visits, updated from the executor's threads under a lock.
+     * @param sourceDirectory The source directory
+     * @param targetDirectory The target directory
+     * @param executor Runs the file copies.
+     * @param maxPending The maximum number of file copies queued or running at any time.
+     * @param copyOptions Specifies how the copying should be done.
+     * @throws IllegalArgumentException if {@code maxPending} is not positive.
+     */
+    public ParallelCopyDirectoryVisitor(final PathCounters pathCounter, final Path sourceDirectory,
+        final Path targetDirectory, final Executor executor, final int maxPending, final CopyOption... copyOptions) {
+        this(pathCounter, TrueFileFilter.INSTANCE, TrueFileFilter.INSTANCE, sourceDirectory, targetDirectory, executor,
+            maxPending, copyOptions);
+    }
+
+    /**
+     * Constructs a new visitor that copies the files and directories accepted by the given filters.
+     *
+     * @param pathCounter How to count visits, updated from the executor's threads under a lock.
+     * @param fileFilter How to filter file paths.
+     * @param dirFilter How to filter directory paths below the source directory.
+     * @param sourceDirectory The source directory
+     * @param targetDirectory The target directory
+     * @param executor Runs the file copies.
+     * @param maxPending The maximum number of file copies queued or running at any time.
+     * @param copyOptions Specifies how the copying should be done.
+     * @throws IllegalArgumentException if {@code maxPending} is not positive.
+     */
+    public ParallelCopyDirectoryVisitor(final PathCounters pathCounter, final PathFilter fileFilter,
+        final PathFilter dirFilter, final Path sourceDirectory, final Path targetDirectory, final Executor executor,
+        final int maxPending, final CopyOption... copyOptions) {
+        super(pathCounter, sourceDirectory, targetDirectory, copyOptions);
+        if (maxPending <= 0) {
+            throw new IllegalArgumentException("maxPending must be greater than 0: " + maxPending);
+        }
+        this.fileFilter = Objects.requireNonNull(fileFilter, "fileFilter");
+        this.dirFilter = Objects.requireNonNull(dirFilter, "dirFilter");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.maxPending = maxPending;
+        this.pending = new Semaphore(maxPending);
+        this.preserveDirectoryTimes = Arrays.asList(getCopyOptions()).contains(StandardCopyOption.COPY_ATTRIBUTES);
+    }
+
+    /**
+     * Waits for all submitted copies to complete.
+     *
+     * @throws IOException if any copy failed.
+     */
+    private void awaitCopies() throws IOException {
+        try {
+            pending.acquire(maxPending);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for file copies to complete");
+        }
+        pending.release(maxPending);
+        if (!exceptions.isEmpty()) {
+            throw new IOExceptionList(getSourceDirectory().toString(), new ArrayList<>(exceptions));
+        }
+    }
+
+    /**
+     * Copies a file and counts it, collecting the failure if any, a runtime exception is wrapped in an IOException.
+     *
+     * @param sourceFile the source file.
+     * @param targetFile the target file.
+     * @param attributes the source file attributes.
+     */
+    private void copyTask(final Path sourceFile, final Path targetFile, final BasicFileAttributes attributes) {
+        try {
+            copy(sourceFile, targetFile);
+            synchronized (getPathCounters()) {
+                updateFileCounters(targetFile, attributes);
+            }
+        } catch (final IOException e) {
+            exceptions.add(e);
+        } catch (final RuntimeException e) {
+            // would otherwise be lost in the executor
+            exceptions.add(new IOException("Failed to copy " + sourceFile, e));
+        } finally {
+            pending.release();
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final ParallelCopyDirectoryVisitor other = (ParallelCopyDirectoryVisitor) obj;
+        return maxPending == other.maxPending && Objects.equals(executor, other.executor);
+    }
+
+    /**
+     * Excludes the copies of the source directory's entries if the target directory is inside the source directory,
+     * like {@code FileUtils.copyDirectory} does (IO-141).
+     *
+     * @param sourceDirectory the source directory.
+     * @throws IOException if the source directory cannot be listed.
+     */
+    private void excludeCopies(final Path sourceDirectory) throws IOException {
+        final Path absoluteTarget = getTargetDirectory().toAbsolutePath().normalize();
+        if (!absoluteTarget.startsWith(sourceDirectory.toAbsolutePath().normalize())) {
+            return;
+        }
+        try (Stream<Path> stream = Files.list(sourceDirectory)) {
+            stream.forEach(path -> exclusions.add(absoluteTarget.resolve(path.getFileName())));
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = super.hashCode();
+        result = prime * result + Objects.hash(executor, maxPending);
+        return result;
+    }
+
+    @Override
+    public FileVisitResult postVisitDirectory(final Path directory, final IOException exc) throws IOException {
+        final FileVisitResult result = super.postVisitDirectory(directory, exc);
+        if (directory.equals(getSourceDirectory())) {
+            awaitCopies();
+            if (preserveDirectoryTimes) {
+                for (final Path sourceDir : visitedDirectories) {
+                    Files.setLastModifiedTime(resolveTarget(sourceDir), Files.getLastModifiedTime(sourceDir));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public FileVisitResult preVisitDirectory(final Path directory, final BasicFileAttributes attributes)
+        throws IOException {
+        if (directory.equals(getSourceDirectory())) {
+            excludeCopies(directory);
+        } else if (isExcluded(directory) || dirFilter.accept(directory, attributes) != FileVisitResult.CONTINUE) {
+            return FileVisitResult.SKIP_SUBTREE;
+        }
+        final FileVisitResult result = super.preVisitDirectory(directory, attributes);
+        if (preserveDirectoryTimes && result == FileVisitResult.CONTINUE) {
+            visitedDirectories.add(directory);
+        }
+        return result;
+    }
+
+    private boolean isExcluded(final Path path) {
+        return !exclusions.isEmpty() && exclusions.contains(path.toAbsolutePath().normalize());
+    }
+
+    private Path resolveTarget(final Path source) {
+        return getTargetDirectory().resolve(getSourceDirectory().relativize(source));
+    }
+
+    @Override
+    public FileVisitResult visitFile(final Path sourceFile, final BasicFileAttributes attributes) throws IOException {
+        if (isExcluded(sourceFile) || fileFilter.accept(sourceFile, attributes) != FileVisitResult.CONTINUE) {
+            return FileVisitResult.CONTINUE;
+        }
+        final Path targetFile = resolveTarget(sourceFile);
+        try {
+            pending.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting to copy " + sourceFile);
+        }
+        try {
+            executor.execute(() -> copyTask(sourceFile, targetFile, attributes));
+        } catch (final RejectedExecutionException e) {
+            pending.release();
+            throw e;
+        }
+        return FileVisitResult.CONTINUE;
+    }
+
+}
@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.io.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Walks a file tree lazily, splitting on subdirectories for parallel streams.
+ * <p>
+ * The walk keeps the directories found but not walked yet and the directory being listed, so memory depends on the
+ * shape of the tree, not on its size. {@link #trySplit()} hands over half of the directories not walked yet, the
+ * ones closest to the start first, reading ahead a bounded number of entries to find some if needed. Each entry's
+ * attributes are read once, to find directories and for the filter.
+ * </p>
+ */
+final class PathSpliterator implements Spliterator<Path>, Closeable {
+
+    /**
+     * A directory found but not walked yet, with its ancestors to detect loops when following links.
+     */
+    private static final class Directory {
+
+        private final int depth;
+        private final Object fileKey;
+        private final Directory parent;
+        private final Path path;
+
+        Directory(final Directory parent, final Path path, final int depth, final Object fileKey) {
+            this.parent = parent;
+            this.path = path;
+            this.depth = depth;
+            this.fileKey = fileKey;
+        }
+    }
+
+    /**
+     * The maximum number of entries {@link #trySplit()} reads ahead to find directories to hand over.
+     */
+    private static final int READ_AHEAD = 1024;
+
+    /**
+     * The depth of the entries of {@link #iterator}.
+     */
+    private int depth;
+
+    /**
+     * The directory listed by {@link #iterator}, null for the start.
+     */
+    private Directory directory;
+    private final boolean followLinks;
+    private Iterator<Path> iterator;
+    private final int maxDepth;
+
+    /**
+     * The directory streams open by this walk, shared by the spliterators split from it.
+     */
+    private final Set<DirectoryStream<Path>> openStreams;
+    private final PathFilter pathFilter;
+    private final Deque<Directory> pending = new ArrayDeque<>();
+    private final boolean readAttributes;
+
+    /**
+     * The entries read and accepted but not consumed yet.
+     */
+    private final Deque<Path> ready = new ArrayDeque<>();
+    private DirectoryStream<Path> stream;
+
+    /**
+     * Constructs a spliterator over a file tree.
+     *
+     * @param start the start path
+     * @param pathFilter the path filter
+     * @param maxDepth the maximum depth of directories to walk
+     * @param readAttributes whether to call the filter with file attributes (false passes null)
+     * @param options the options to configure the walk
+     */
+    PathSpliterator(final Path start, final PathFilter pathFilter, final int maxDepth, final boolean readAttributes,
+        final FileVisitOption... options) {
+        this.pathFilter = pathFilter;
+        this.maxDepth = maxDepth;
+        this.readAttributes = readAttributes;
+        this.followLinks = Arrays.asList(options).contains(FileVisitOption.FOLLOW_LINKS);
+        this.openStreams = ConcurrentHashMap.newKeySet();
+        this.iterator = Collections.singletonList(start).iterator();
+    }
+
+    /**
+     * Constructs a spliterator over directories split from another spliterator.
+     *
+     * @param other the spliterator split from
+     */
+    private PathSpliterator(final PathSpliterator other) {
+        this.pathFilter = other.pathFilter;
+        this.maxDepth = other.maxDepth;
+        this.readAttributes = other.readAttributes;
+        this.followLinks = other.followLinks;
+        this.openStreams = other.openStreams;
+    }
+
+    @Override
+    public int characteristics() {
+        return DISTINCT | NONNULL;
+    }
+
+    /**
+     * Closes the directory streams still open by this walk and the spliterators split from it.
+     */
+    @Override
+    public void close() {
+        for (final DirectoryStream<Path> openStream : openStreams) {
+            closeQuietly(openStream);
+        }
+        openStreams.clear();
+    }
+
+    private void closeQuietly(final DirectoryStream<Path> directoryStream) {
+        try {
+            directoryStream.close();
+        } catch (final IOException ignored) {
+            // ignore
+        }
+    }
+
+    /**
+     * Closes the directory stream being listed if any.
+     */
+    private void closeStream() {
+        if (stream != null) {
+            openStreams.remove(stream);
+            closeQuietly(stream);
+            stream = null;
+        }
+        iterator = null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Reads the next entry of the walk, buffering it if accepted and keeping it to walk if it is a directory.
+     *
+     * @return whether an entry was read, false at the end of the walk
+     */
+    private boolean fill() {
+        while (true) {
+            if (iterator != null) {
+                final Path path;
+                try {
+                    path = iterator.hasNext() ? iterator.next() : null;
+                } catch (final DirectoryIteratorException e) {
+                    throw new UncheckedIOException(e.getCause());
+                }
+                if (path != null) {
+                    visit(path);
+                    return true;
+                }
+                closeStream();
+            }
+            final Directory next = pending.pollFirst();
+            if (next == null) {
+                return false;
+            }
+            open(next);
+        }
+    }
+
+    /**
+     * Tests whether a directory is one of the directories being walked to reach it.
+     *
+     * @param path the directory
+     * @param fileKey the file key of the directory or null
+     * @return whether the directory is an ancestor of itself
+     */
+    private boolean isLoop(final Path path, final Object fileKey) {
+        for (Directory ancestor = directory; ancestor != null; ancestor = ancestor.parent) {
+            if (fileKey != null && ancestor.fileKey != null) {
+                if (fileKey.equals(ancestor.fileKey)) {
+                    return true;
+                }
+            } else {
+                try {
+                    if (Files.isSameFile(path, ancestor.path)) {
+                        return true;
+                    }
+                } catch (final IOException | SecurityException ignored) {
+                    // not the same
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts listing a directory.
+     *
+     * @param next the directory
+     */
+    private void open(final Directory next) {
+        try {
+            stream = Files.newDirectoryStream(next.path);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        openStreams.add(stream);
+        iterator = stream.iterator();
+        directory = next;
+        depth = next.depth + 1;
+    }
+
+    /**
+     * Reads the attributes of a path, of a broken link itself when following links.
+     *
+     * @param path the path
+     * @return the attributes
+     */
+    private BasicFileAttributes readAttributes(final Path path) {
+        try {
+            if (followLinks) {
+                try {
+                    return Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (final IOException e) {
+                    // a broken link
+                }
+            }
+            return Files.readAttributes(path, BasicFileAttributes.class, PathUtils.NOFOLLOW_LINK_OPTION_ARRAY);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Path> action) {
+        while (ready.isEmpty()) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        action.accept(ready.pollFirst());
+        return true;
+    }
+
+    @Override
+    public Spliterator<Path> trySplit() {
+        for (int i = 0; i < READ_AHEAD && pending.size() < 2 && fill(); i++) {
+            // read ahead to find directories
+        }
+        if (pending.isEmpty()) {
+            return null;
+        }
+        final PathSpliterator split = new PathSpliterator(this);
+        for (int i = (pending.size() + 1) / 2; i > 0; i--) {
+            split.pending.addFirst(pending.pollLast());
+        }
+        return split;
+    }
+
+    /**
+     * Visits an entry, buffering it if accepted and keeping it to walk if it is a directory.
+     *
+     * @param path the entry
+     */
+    private void visit(final Path path) {
+        final BasicFileAttributes attributes = readAttributes(path);
+        if (attributes.isDirectory() && depth < maxDepth) {
+            final Object fileKey = followLinks ? attributes.fileKey() : null;
+            if (followLinks && isLoop(path, fileKey)) {
+                throw new UncheckedIOException(new FileSystemLoopException(path.toString()));
+            }
+            pending.addFirst(new Directory(directory, path, depth, fileKey));
+        }
+        if (pathFilter.accept(path, readAttributes ? attributes : null) == FileVisitResult.CONTINUE) {
+            ready.addLast(path);
+        }
+    }
+}
@@ -23,6 +23,8 @@
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.CopyOption;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileVisitOption;
@@ -52,14 +54,23 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.io.IOExceptionList;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.file.Counters.PathCounters;
 import org.apache.commons.io.filefilter.IOFileFilter;
+import org.apache.commons.io.filefilter.TrueFileFilter;
 
 /**
  * NIO Path utilities.
@@ -68,6 +79,97 @@
  */
 public final class PathUtils {
 
+    /**
+     * Private worker that compares two files of the same size range by range on a fork/join pool. Workers claim
+     * fixed-size ranges from a shared position, so each allocates its buffers once, and all of them stop at the first
+     * mismatch or failure.
+     */
+    private static final class ParallelContentComparison {
+
+        private final FileChannel channel1;
+        private final FileChannel channel2;
+        private final int chunkSize;
+        private final AtomicReference<IOException> failure = new AtomicReference<>();
+        private final AtomicBoolean mismatch = new AtomicBoolean();
+        private final AtomicLong nextPosition = new AtomicLong();
+        private final long size;
+
+        private ParallelContentComparison(final FileChannel channel1, final FileChannel channel2, final long size,
+            final int chunkSize) {
+            this.channel1 = channel1;
+            this.channel2 = channel2;
+            this.size = size;
+            this.chunkSize = chunkSize;
+        }
+
+        /**
+         * Runs the given number of workers on the pool and waits for all of them.
+         *
+         * @param pool the pool to run on.
+         * @param workers the number of workers.
+         * @return whether the contents are equal.
+         * @throws IOException if a worker failed to read.
+         */
+        private boolean compare(final ForkJoinPool pool, final int workers) throws IOException {
+            final List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                tasks.add(pool.submit(this::compareRanges));
+            }
+            tasks.forEach(ForkJoinTask::join);
+            final IOException e = failure.get();
+            if (e != null) {
+                throw e;
+            }
+            return !mismatch.get();
+        }
+
+        private void compareRanges() {
+            // Heap buffers: direct ones would be allocated outside the heap for each comparison and freed only by a GC,
+            // while the channel reads through a temporary direct buffer it caches per thread
+            final ByteBuffer buffer1 = ByteBuffer.allocate(chunkSize);
+            final ByteBuffer buffer2 = ByteBuffer.allocate(chunkSize);
+            try {
+                while (!mismatch.get()) {
+                    final long position = nextPosition.getAndAdd(chunkSize);
+                    if (position >= size) {
+                        return;
+                    }
+                    final int length = (int) Math.min(chunkSize, size - position);
+                    if (read(channel1, buffer1, position, length) != length
+                        || read(channel2, buffer2, position, length) != length
+                        || !FileContents.equals(buffer1, buffer2, length)) {
+                        mismatch.set(true);
+                    }
+                }
+            } catch (final IOException e) {
+                failure.compareAndSet(null, e);
+                mismatch.set(true);
+            }
+        }
+
+        /**
+         * Reads up to {@code length} bytes at the given position into the start of the buffer without moving the
+         * channel position.
+         *
+         * @param channel the channel to read.
+         * @param buffer the buffer to fill.
+         * @param position the file position to read from.
+         * @param length the number of bytes to read.
+         * @return the number of bytes read, less than {@code length} at the end of the file.
+         * @throws IOException if an I/O error occurs.
+         */
+        private static int read(final FileChannel channel, final ByteBuffer buffer, final long position,
+            final int length) throws IOException {
+            buffer.clear().limit(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            return buffer.position();
+        }
+    }
+
     /**
      * Private worker/holder that computes and tracks relative path names and their equality. We reuse the sorted
      * relative lists when comparing directories.
@@ -174,6 +276,16 @@ private RelativeSortedPaths(final Path dir1, final Path dir2, final int maxDepth
      */
     public static final Path[] EMPTY_PATH_ARRAY = new Path[0];
 
+    /**
+     * The size of the ranges compared by each task of a parallel file content comparison.
+     */
+    static final int PARALLEL_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * The number of file copies a parallel directory copy queues per thread.
+     */
+    static final int PARALLEL_COPIES_PER_THREAD = 16;
+
     /**
      * Accumulates file tree information in a {@link AccumulatorPathVisitor}.
      *
@@ -189,6 +301,21 @@ private static AccumulatorPathVisitor accumulate(final Path directory, final int
             toFileVisitOptionSet(fileVisitOptions), maxDepth);
     }
 
+    /**
+     * Waits for a shut down executor to terminate, restoring the interrupt status if interrupted.
+     *
+     * @param executor the executor.
+     */
+    private static void awaitTermination(final ExecutorService executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                // keep waiting
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Cleans a directory including sub-directories without deleting directories.
      *
@@ -231,6 +358,64 @@ public static PathCounters copyDirectory(final Path sourceDirectory, final Path
             sourceDirectory).getPathCounters();
     }
 
+    /**
+     * Copies a directory to another directory, copying files on the given number of threads.
+     * <p>
+     * Directories are created on the calling thread before the files they contain are copied, and the calling thread
+     * stops walking the source directory while {@value #PARALLEL_COPIES_PER_THREAD} copies per thread are pending.
+     * </p>
+     *
+     * @param sourceDirectory The source directory.
+     * @param targetDirectory The target directory.
+     * @param parallelism The number of threads copying files.
+     * @param copyOptions Specifies how the copying should be done.
+     * @return The visitation path counters.
+     * @throws IllegalArgumentException if {@code parallelism} is not positive.
+     * @throws IOException if an I/O error is thrown by a visitor method, an {@link IOExceptionList} if any file copy
+     *         failed.
+     * @see ParallelCopyDirectoryVisitor
+     * @since 2.9.0
+     */
+    public static PathCounters copyDirectory(final Path sourceDirectory, final Path targetDirectory,
+        final int parallelism, final CopyOption... copyOptions) throws IOException {
+        return copyDirectory(sourceDirectory, targetDirectory, TrueFileFilter.INSTANCE, TrueFileFilter.INSTANCE,
+            parallelism, copyOptions);
+    }
+
+    /**
+     * Copies the files and directories accepted by the given filters, copying files on the given number of threads.
+     *
+     * @param sourceDirectory The source directory.
+     * @param targetDirectory The target directory.
+     * @param fileFilter How to filter file paths.
+     * @param dirFilter How to filter directory paths below the source directory.
+     * @param parallelism The number of threads copying files.
+     * @param copyOptions Specifies how the copying should be done.
+     * @return The visitation path counters.
+     * @throws IllegalArgumentException if {@code parallelism} is not positive.
+     * @throws IOException if an I/O error is thrown by a visitor method, an {@link IOExceptionList} if any file copy
+     *         failed.
+     * @see ParallelCopyDirectoryVisitor
+     * @since 2.9.0
+     */
+    public static PathCounters copyDirectory(final Path sourceDirectory, final Path targetDirectory,
+        final PathFilter fileFilter, final PathFilter dirFilter, final int parallelism,
+        final CopyOption... copyOptions) throws IOException {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be greater than 0: " + parallelism);
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            return visitFileTree(new ParallelCopyDirectoryVisitor(Counters.longPathCounters(), fileFilter, dirFilter,
+                sourceDirectory, targetDirectory, executor, parallelism * PARALLEL_COPIES_PER_THREAD, copyOptions),
+                sourceDirectory).getPathCounters();
+        } finally {
+            // cancels the copies not started yet if the visit failed, and waits for the running ones
+            executor.shutdownNow();
+            awaitTermination(executor);
+        }
+    }
+
     /**
      * Copies a URL to a directory.
      *
@@ -602,7 +787,8 @@ public static boolean fileContentEquals(final Path path1, final Path path2) thro
     /**
      * Compares the file contents of two Paths to determine if they are equal or not.
      * <p>
-     * File content is accessed through {@link Files#newInputStream(Path,OpenOption...)}.
+     * File content is accessed through {@link Files#newInputStream(Path,OpenOption...)}, or on Java 17 and above
+     * through {@code Files.mismatch(Path, Path)} when no open options are given.
      * </p>
      *
      * @param path1 the first stream.
@@ -616,6 +802,49 @@ public static boolean fileContentEquals(final Path path1, final Path path2) thro
      */
     public static boolean fileContentEquals(final Path path1, final Path path2, final LinkOption[] linkOptions,
         final OpenOption[] openOptions) throws IOException {
+        return fileContentEquals(path1, path2, linkOptions, openOptions, null, PARALLEL_CHUNK_SIZE);
+    }
+
+    /**
+     * Compares the file contents of two Paths to determine if they are equal or not, comparing ranges of the files in
+     * parallel on the given pool.
+     * <p>
+     * File content is accessed through positional reads on a {@link FileChannel} per file, which the tasks share.
+     * Comparison stops as soon as a task finds a difference. Files that fit in a single range are compared on the
+     * calling thread. This is meant for large files on storage that serves concurrent reads well, like SSDs.
+     * </p>
+     *
+     * @param path1 the first stream.
+     * @param path2 the second stream.
+     * @param linkOptions options specifying how files are followed.
+     * @param openOptions options specifying how files are opened.
+     * @param pool the pool that runs the comparison tasks.
+     * @return true if the content of the streams are equal or they both don't exist, false otherwise.
+     * @throws NullPointerException if the pool is null.
+     * @throws IOException if an I/O error occurs.
+     * @see org.apache.commons.io.FileUtils#contentEquals(java.io.File, java.io.File, ForkJoinPool)
+     * @since 2.9.0
+     */
+    public static boolean fileContentEquals(final Path path1, final Path path2, final LinkOption[] linkOptions,
+        final OpenOption[] openOptions, final ForkJoinPool pool) throws IOException {
+        Objects.requireNonNull(pool, "pool");
+        return fileContentEquals(path1, path2, linkOptions, openOptions, pool, PARALLEL_CHUNK_SIZE);
+    }
+
+    /**
+     * Compares the file contents of two Paths, in parallel ranges of the given size if a pool is given.
+     *
+     * @param path1 the first stream.
+     * @param path2 the second stream.
+     * @param linkOptions options specifying how files are followed.
+     * @param openOptions options specifying how files are opened.
+     * @param pool the pool that runs the comparison tasks, null to compare streams on the calling thread.
+     * @param chunkSize the size of the ranges compared by each task.
+     * @return true if the content of the streams are equal or they both don't exist, false otherwise.
+     * @throws IOException if an I/O error occurs.
+     */
+    static boolean fileContentEquals(final Path path1, final Path path2, final LinkOption[] linkOptions,
+        final OpenOption[] openOptions, final ForkJoinPool pool, final int chunkSize) throws IOException {
         if (path1 == null && path2 == null) {
             return true;
         }
@@ -641,7 +870,8 @@ public static boolean fileContentEquals(final Path path1, final Path path2, fina
             // don't compare directory contents.
             throw new IOException("Can't compare directories, only files: " + nPath2);
         }
-        if (Files.size(nPath1) != Files.size(nPath2)) {
+        final long size = Files.size(nPath1);
+        if (size != Files.size(nPath2)) {
             // lengths differ, cannot be equal
             return false;
         }
@@ -649,10 +879,15 @@ public static boolean fileContentEquals(final Path path1, final Path path2, fina
             // same file
             return true;
         }
-        try (final InputStream inputStream1 = Files.newInputStream(nPath1, openOptions);
-            final InputStream inputStream2 = Files.newInputStream(nPath2, openOptions)) {
-            return IOUtils.contentEquals(inputStream1, inputStream2);
+        final long chunks = (size + chunkSize - 1) / chunkSize;
+        if (pool != null && chunks > 1) {
+            try (final FileChannel channel1 = FileChannel.open(nPath1, openOptions);
+                final FileChannel channel2 = FileChannel.open(nPath2, openOptions)) {
+                return new ParallelContentComparison(channel1, channel2, size, chunkSize).compare(pool,
+                    (int) Math.min(pool.getParallelism(), chunks));
+            }
         }
+        return FileContents.equals(nPath1, nPath2, openOptions);
     }
 
     /**
@@ -948,6 +1183,27 @@ public static Path setReadOnly(final Path path, final boolean readOnly, final Li
                 Arrays.toString(linkOptions)));
     }
 
+    /**
+     * Synchronizes a directory with another directory, copying only the files that are not up to date.
+     * <p>
+     * The target directory must exist or its parent directory must exist.
+     * </p>
+     *
+     * @param sourceDirectory The source directory.
+     * @param targetDirectory The target directory.
+     * @param syncOptions Specifies how the synchronization should be done, see {@link StandardSyncOption}.
+     * @param copyOptions Specifies how the copying should be done.
+     * @return The visitor, which holds the counts of copied, skipped and deleted paths.
+     * @throws IOException if an I/O error is thrown by a visitor method.
+     * @see SyncDirectoryVisitor
+     * @since 2.9.0
+     */
+    public static SyncDirectoryVisitor syncDirectory(final Path sourceDirectory, final Path targetDirectory,
+        final SyncOption[] syncOptions, final CopyOption... copyOptions) throws IOException {
+        return visitFileTree(new SyncDirectoryVisitor(Counters.longPathCounters(), sourceDirectory, targetDirectory,
+            syncOptions, copyOptions), sourceDirectory);
+    }
+
     /**
      * Converts an array of {@link FileVisitOption} to a {@link Set}.
      *
@@ -1034,6 +1290,11 @@ public static <T extends FileVisitor<? super Path>> T visitFileTree(final T visi
 
     /**
      * Returns a stream of filtered paths.
+     * <p>
+     * The filter is given the attributes read by the walk itself, so reading attributes costs no more file system
+     * calls. Unless following links, the attributes of a symbolic link are those of the link itself. On platforms with
+     * POSIX file attributes, these attributes are usually also {@link PosixFileAttributes}.
+     * </p>
      *
      * @param start the start path
      * @param pathFilter the path filter
@@ -1046,8 +1307,46 @@ public static <T extends FileVisitor<? super Path>> T visitFileTree(final T visi
      */
     public static Stream<Path> walk(final Path start, final PathFilter pathFilter, final int maxDepth,
         final boolean readAttributes, final FileVisitOption... options) throws IOException {
-        return Files.walk(start, maxDepth, options).filter(path -> pathFilter.accept(path,
-            readAttributes ? readBasicFileAttributesUnchecked(path) : null) == FileVisitResult.CONTINUE);
+        return Files.find(start, maxDepth, (path, attributes) -> pathFilter.accept(path,
+            readAttributes ? attributes : null) == FileVisitResult.CONTINUE, options);
+    }
+
+    /**
+     * Returns a parallel stream of filtered paths that walks the file tree lazily.
+     * <p>
+     * Unlike {@link #walk(Path, PathFilter, int, boolean, FileVisitOption...)}, the stream splits on subdirectories,
+     * so sibling subtrees are walked by different threads, while only the directories found but not walked yet are
+     * kept in memory. The attributes of each entry are read once. The paths are not in depth-first order; call
+     * {@link Stream#sequential()} to walk on the calling thread.
+     * </p>
+     * <p>
+     * As with {@link Files#walk(Path, int, FileVisitOption...)}, the stream should be closed to close the directories
+     * being read, and an {@link java.io.UncheckedIOException} is thrown from the stream if a directory or entry
+     * cannot be read or, when following links, if a link points to one of its parent directories.
+     * </p>
+     *
+     * @param start the start path
+     * @param pathFilter the path filter
+     * @param maxDepth the maximum depth of directories to walk.
+     * @param readAttributes whether to call the filters with file attributes (false passes null).
+     * @param options the options to configure the walk.
+     * @return a filtered parallel stream of paths.
+     * @throws IOException if an I/O error is thrown when accessing the starting file.
+     * @throws IllegalArgumentException if {@code maxDepth} is negative.
+     * @since 2.9.0
+     */
+    public static Stream<Path> walkParallel(final Path start, final PathFilter pathFilter, final int maxDepth,
+        final boolean readAttributes, final FileVisitOption... options) throws IOException {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("maxDepth must not be negative: " + maxDepth);
+        }
+        Objects.requireNonNull(pathFilter, "pathFilter");
+        // fail like Files.walk if the start cannot be read
+        Files.readAttributes(start, BasicFileAttributes.class,
+            Arrays.asList(options).contains(FileVisitOption.FOLLOW_LINKS) ? EMPTY_LINK_OPTION_ARRAY
+                : NOFOLLOW_LINK_OPTION_ARRAY);
+        final PathSpliterator spliterator = new PathSpliterator(start, pathFilter, maxDepth, readAttributes, options);
+        return StreamSupport.stream(spliterator, true).onClose(spliterator::close);
     }
 
     /**
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.io.file;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Defines the standard directory synchronization options.
+ *
+ * @since 2.9.0
+ */
+public enum StandardSyncOption implements SyncOption {
+
+    /**
+     * Compares the content of files of the same size instead of their last modified times to decide whether they are
+     * up to date.
+     */
+    COMPARE_CONTENT,
+
+    /**
+     * Deletes the files and directories of the target directory that do not exist in the source directory.
+     */
+    DELETE_EXTRANEOUS;
+
+    /**
+     * Returns true if the given options contain {@link StandardSyncOption#COMPARE_CONTENT}.
+     *
+     * @param options the array to test, may be null.
+     * @return true if the given options contain {@link StandardSyncOption#COMPARE_CONTENT}.
+     */
+    public static boolean compareContent(final SyncOption[] options) {
+        return contains(options, COMPARE_CONTENT);
+    }
+
+    private static boolean contains(final SyncOption[] options, final SyncOption option) {
+        if (IOUtils.length(options) == 0) {
+            return false;
+        }
+        for (final SyncOption syncOption : options) {
+            if (syncOption == option) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the given options contain {@link StandardSyncOption#DELETE_EXTRANEOUS}.
+     *
+     * @param options the array to test, may be null.
+     * @return true if the given options contain {@link StandardSyncOption#DELETE_EXTRANEOUS}.
+     */
+    public static boolean deleteExtraneous(final SyncOption[] options) {
+        return contains(options, DELETE_EXTRANEOUS);
+    }
+
+}
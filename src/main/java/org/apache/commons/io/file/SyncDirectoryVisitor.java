@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.io.file;
+
+import java.io.IOException;
+import java.nio.file.CopyOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.file.Counters.PathCounters;
+
+/**
+ * Synchronizes a target directory with a source directory, copying only the files that are not up to date.
+ * <p>
+ * A target file is up to date if it is a regular file of the same size as the source file and has the same last
+ * modified time, or the same content with {@link StandardSyncOption#COMPARE_CONTENT}. Copied files get the last
+ * modified time of their source file so that the next synchronization skips them, and existing target files are
+ * always replaced.
+ * </p>
+ * <p>
+ * The {@link #getPathCounters() path counters} count the visited directories and the copied files and bytes, the
+ * {@link #getSkippedCounters() skipped counters} the files found up to date, and the {@link #getDeletedCounters()
+ * deleted counters} what {@link StandardSyncOption#DELETE_EXTRANEOUS} removed from the target directory, including a
+ * target directory replaced by a source file and a target file replaced by a source directory.
+ * </p>
+ *
+ * @since 2.9.0
+ */
+public class SyncDirectoryVisitor extends CopyDirectoryVisitor {
+
+    private static CopyOption[] addReplaceExisting(final CopyOption... copyOptions) {
+        if (copyOptions == null) {
+            return new CopyOption[] {StandardCopyOption.REPLACE_EXISTING};
+        }
+        if (Arrays.asList(copyOptions).contains(StandardCopyOption.REPLACE_EXISTING)) {
+            return copyOptions;
+        }
+        final CopyOption[] actual = Arrays.copyOf(copyOptions, copyOptions.length + 1);
+        actual[copyOptions.length] = StandardCopyOption.REPLACE_EXISTING;
+        return actual;
+    }
+
+    private final boolean compareContent;
+    private final PathCounters deletedCounters = Counters.longPathCounters();
+    private final boolean deleteExtraneous;
+    private final PathCounters skippedCounters = Counters.longPathCounters();
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param pathCounter How to count visits and copies.
+     * @param sourceDirectory The source directory
+     * @param targetDirectory The target directory
+     * @param syncOptions Specifies how the synchronization should be done, may be null.
+     * @param copyOptions Specifies how the copying should be done, {@link StandardCopyOption#REPLACE_EXISTING} is
+     *        always added.
+     */
+    public SyncDirectoryVisitor(final PathCounters pathCounter, final Path sourceDirectory, final Path targetDirectory,
+        final SyncOption[] syncOptions, final CopyOption... copyOptions) {
+        super(pathCounter, sourceDirectory, targetDirectory, addReplaceExisting(copyOptions));
+        this.compareContent = StandardSyncOption.compareContent(syncOptions);
+        this.deleteExtraneous = StandardSyncOption.deleteExtraneous(syncOptions);
+    }
+
+    /**
+     * Copies the sourceFile to the targetFile and sets the last modified time of the targetFile to the one of the
+     * sourceFile.
+     *
+     * @param sourceFile the source file.
+     * @param targetFile the target file.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    protected void copy(final Path sourceFile, final Path targetFile) throws IOException {
+        super.copy(sourceFile, targetFile);
+        Files.setLastModifiedTime(targetFile, Files.getLastModifiedTime(sourceFile));
+    }
+
+    /**
+     * Deletes a target file or directory and counts what was deleted.
+     *
+     * @param target the target file or directory.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void delete(final Path target) throws IOException {
+        final PathCounters counters = PathUtils.delete(target, PathUtils.NOFOLLOW_LINK_OPTION_ARRAY);
+        deletedCounters.getDirectoryCounter().add(counters.getDirectoryCounter().get());
+        deletedCounters.getFileCounter().add(counters.getFileCounter().get());
+        deletedCounters.getByteCounter().add(counters.getByteCounter().get());
+    }
+
+    /**
+     * Deletes the entries of a target directory that do not exist in its source directory.
+     *
+     * @param sourceDir the source directory.
+     * @param targetDir the target directory.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void deleteExtraneous(final Path sourceDir, final Path targetDir) throws IOException {
+        try (Stream<Path> stream = Files.list(targetDir)) {
+            final Iterator<Path> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                final Path target = iterator.next();
+                if (Files.notExists(sourceDir.resolve(target.getFileName().toString()), LinkOption.NOFOLLOW_LINKS)) {
+                    delete(target);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final SyncDirectoryVisitor other = (SyncDirectoryVisitor) obj;
+        return compareContent == other.compareContent && deleteExtraneous == other.deleteExtraneous;
+    }
+
+    /**
+     * Gets the counts of the directories, files and bytes deleted from the target directory.
+     *
+     * @return the counts of the directories, files and bytes deleted from the target directory.
+     */
+    public PathCounters getDeletedCounters() {
+        return deletedCounters;
+    }
+
+    /**
+     * Gets the counts of the files and bytes found up to date.
+     *
+     * @return the counts of the files and bytes found up to date.
+     */
+    public PathCounters getSkippedCounters() {
+        return skippedCounters;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = super.hashCode();
+        result = prime * result + Objects.hash(compareContent, deleteExtraneous);
+        return result;
+    }
+
+    /**
+     * Tests whether a target file is up to date.
+     *
+     * @param sourceFile the source file.
+     * @param sourceAttributes the source file attributes.
+     * @param targetFile the target file.
+     * @return whether the target file is up to date.
+     * @throws IOException if an I/O error occurs.
+     */
+    private boolean isUpToDate(final Path sourceFile, final BasicFileAttributes sourceAttributes,
+        final Path targetFile) throws IOException {
+        final BasicFileAttributes targetAttributes;
+        try {
+            targetAttributes = Files.readAttributes(targetFile, BasicFileAttributes.class);
+        } catch (final NoSuchFileException e) {
+            return false;
+        }
+        if (!targetAttributes.isRegularFile() || targetAttributes.size() != sourceAttributes.size()) {
+            return false;
+        }
+        if (compareContent) {
+            return PathUtils.fileContentEquals(sourceFile, targetFile);
+        }
+        // Compare milliseconds as file systems store times with different precisions
+        return sourceAttributes.lastModifiedTime().toMillis() == targetAttributes.lastModifiedTime().toMillis();
+    }
+
+    @Override
+    public FileVisitResult postVisitDirectory(final Path directory, final IOException exc) throws IOException {
+        if (deleteExtraneous && exc == null) {
+            deleteExtraneous(directory, resolveTarget(directory));
+        }
+        return super.postVisitDirectory(directory, exc);
+    }
+
+    @Override
+    public FileVisitResult preVisitDirectory(final Path directory, final BasicFileAttributes attributes)
+        throws IOException {
+        final Path targetDir = resolveTarget(directory);
+        if (deleteExtraneous && Files.exists(targetDir, LinkOption.NOFOLLOW_LINKS)
+            && !Files.isDirectory(targetDir, LinkOption.NOFOLLOW_LINKS)) {
+            // A file where the source has a directory
+            delete(targetDir);
+        }
+        return super.preVisitDirectory(directory, attributes);
+    }
+
+    private Path resolveTarget(final Path source) {
+        return getTargetDirectory().resolve(getSourceDirectory().relativize(source));
+    }
+
+    @Override
+    public FileVisitResult visitFile(final Path sourceFile, final BasicFileAttributes attributes) throws IOException {
+        if (isUpToDate(sourceFile, attributes, resolveTarget(sourceFile))) {
+            skippedCounters.getFileCounter().increment();
+            skippedCounters.getByteCounter().add(attributes.size());
+            return FileVisitResult.CONTINUE;
+        }
+        final Path targetFile = resolveTarget(sourceFile);
+        if (deleteExtraneous && Files.isDirectory(targetFile, LinkOption.NOFOLLOW_LINKS)) {
+            // A directory where the source has a file, which REPLACE_EXISTING only replaces if empty
+            delete(targetFile);
+        }
+        return super.visitFile(sourceFile, attributes);
+    }
+
+}
@@ -39,6 +39,17 @@
  */
 public abstract class AbstractFileFilter implements IOFileFilter, PathVisitor {
 
+    /**
+     * Tests whether attributes given to {@link #accept(Path, BasicFileAttributes)} can stand for the attributes of
+     * the file, following links: they are present and are not the attributes of a symbolic link.
+     *
+     * @param attributes the attributes, may be null.
+     * @return whether the attributes can be used instead of reading them again.
+     */
+    static boolean isFileAttributes(final BasicFileAttributes attributes) {
+        return attributes != null && !attributes.isSymbolicLink();
+    }
+
     static FileVisitResult toFileVisitResult(final boolean accept, final Path path) {
         return accept ? FileVisitResult.CONTINUE : FileVisitResult.TERMINATE;
     }
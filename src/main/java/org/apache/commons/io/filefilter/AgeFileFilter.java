@@ -177,10 +177,14 @@ public boolean accept(final File file) {
     @Override
     public FileVisitResult accept(final Path file, final BasicFileAttributes attributes) {
         final boolean newer;
-        try {
-            newer = PathUtils.isNewer(file, cutoffMillis);
-        } catch (final IOException e) {
-            return handle(e);
+        if (isFileAttributes(attributes)) {
+            newer = attributes.lastModifiedTime().toMillis() > cutoffMillis;
+        } else {
+            try {
+                newer = PathUtils.isNewer(file, cutoffMillis);
+            } catch (final IOException e) {
+                return handle(e);
+            }
         }
         return toFileVisitResult(acceptOlder != newer, file);
     }
@@ -105,7 +105,8 @@ public boolean accept(final File file) {
      */
     @Override
     public FileVisitResult accept(final Path file, final BasicFileAttributes attributes) {
-        return toFileVisitResult(Files.isDirectory(file), file);
+        return toFileVisitResult(
+            isFileAttributes(attributes) ? attributes.isDirectory() : Files.isDirectory(file), file);
     }
 
 }
@@ -118,12 +118,13 @@ public boolean accept(final File file) {
     @Override
     public FileVisitResult accept(final Path file, final BasicFileAttributes attributes) {
         try {
-            if (Files.isDirectory(file)) {
+            final boolean useAttributes = isFileAttributes(attributes);
+            if (useAttributes ? attributes.isDirectory() : Files.isDirectory(file)) {
                 try (Stream<Path> stream = Files.list(file)) {
                     return toFileVisitResult(!stream.findFirst().isPresent(), file);
                 }
             }
-            return toFileVisitResult(Files.size(file) == 0, file);
+            return toFileVisitResult((useAttributes ? attributes.size() : Files.size(file)) == 0, file);
         } catch (final IOException e) {
             return handle(e);
         }
@@ -105,7 +105,8 @@ public boolean accept(final File file) {
      */
     @Override
     public FileVisitResult accept(final Path file, final BasicFileAttributes attributes) {
-        return toFileVisitResult(Files.isRegularFile(file), file);
+        return toFileVisitResult(
+            isFileAttributes(attributes) ? attributes.isRegularFile() : Files.isRegularFile(file), file);
     }
 
 }
@@ -138,12 +138,16 @@ private boolean accept(final long length) {
     @Override
     public FileVisitResult accept(final Path file, final BasicFileAttributes attributes) {
         try {
-            return toFileVisitResult(accept(Files.size(file)), file);
+            return toFileVisitResult(accept(size(file, attributes)), file);
         } catch (final IOException e) {
             return handle(e);
         }
     }
 
+    private long size(final Path file, final BasicFileAttributes attributes) throws IOException {
+        return isFileAttributes(attributes) ? attributes.size() : Files.size(file);
+    }
+
     /**
      * Provide a String representation of this file filter.
      *
@@ -157,7 +161,7 @@ public String toString() {
 
     @Override
     public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-        return toFileVisitResult(accept(Files.size(file)), file);
+        return toFileVisitResult(accept(size(file, attrs)), file);
     }
 
 }
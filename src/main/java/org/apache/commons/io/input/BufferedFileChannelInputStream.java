@@ -22,14 +22,13 @@
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 
 import org.apache.commons.io.IOUtils;
 
-import sun.nio.ch.DirectBuffer;
-
 /**
  * {@link InputStream} implementation which uses direct buffer to read a file to avoid extra copy of data between Java
  * and native memory which happens when using {@link java.io.BufferedInputStream}. Unfortunately, this is not something
@@ -109,8 +108,8 @@ public synchronized int available() throws IOException {
      * @param buffer the buffer to clean.
      */
     private void clean(final ByteBuffer buffer) {
-        if (buffer instanceof sun.nio.ch.DirectBuffer) {
-            clean((sun.nio.ch.DirectBuffer) buffer);
+        if (buffer.isDirect()) {
+            cleanDirectBuffer(buffer);
         }
     }
 
@@ -120,9 +119,14 @@ private void clean(final ByteBuffer buffer) {
      * .clean() method is not accessible even with reflection. However sun.misc.Unsafe added a invokeCleaner() method in
      * JDK 9+ and this is still accessible with reflection.
      *
-     * @param buffer the buffer to clean.
+     * <p>
+     * {@code sun.nio.ch.DirectBuffer} is only accessed through reflection, so that this class compiles with
+     * {@code --release 8}, which does not expose JDK internals.
+     * </p>
+     *
+     * @param buffer the direct buffer to clean.
      */
-    private void clean(final DirectBuffer buffer) {
+    private void cleanDirectBuffer(final ByteBuffer buffer) {
         //
         // Ported from StorageUtils.scala.
         //
@@ -150,7 +154,7 @@ private void clean(final DirectBuffer buffer) {
             // On Java 8, but also compiles on Java 11.
             try {
               final Class<?> clsCleaner = Class.forName("sun.misc.Cleaner");
-              final Method cleanerMethod = DirectBuffer.class.getMethod("cleaner");
+              final Method cleanerMethod = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
               final Object cleaner = cleanerMethod.invoke(buffer);
               if (cleaner != null) {
                   final Method cleanMethod = clsCleaner.getMethod("clean");
@@ -250,4 +254,42 @@ private long skipFromFileChannel(final long n) throws IOException {
         return n;
     }
 
+    /**
+     * Transfers bytes from this stream to the given channel: buffered bytes are written first, the remainder is
+     * transferred directly from the underlying file channel with
+     * {@link FileChannel#transferTo(long, long, WritableByteChannel)}.
+     *
+     * @param target the channel to write to.
+     * @param length the maximum number of bytes to transfer, negative means all.
+     * @return the number of bytes transferred, less than {@code length} if the end of the file is reached.
+     * @throws IOException If an I/O error occurs
+     */
+    public synchronized long transferTo(final WritableByteChannel target, final long length) throws IOException {
+        Objects.requireNonNull(target, "target");
+        long count = 0;
+        if (byteBuffer.hasRemaining()) {
+            final int limit = byteBuffer.limit();
+            if (length >= 0 && length < byteBuffer.remaining()) {
+                byteBuffer.limit(byteBuffer.position() + (int) length);
+            }
+            while (byteBuffer.hasRemaining()) {
+                count += target.write(byteBuffer);
+            }
+            byteBuffer.limit(limit);
+        }
+        final long start = fileChannel.position();
+        final long size = fileChannel.size();
+        final long end = length < 0 ? size : Math.min(size, start + length - count);
+        long position = start;
+        while (position < end) {
+            final long transferred = fileChannel.transferTo(position, end - position, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+        fileChannel.position(position);
+        return count + position - start;
+    }
+
 }
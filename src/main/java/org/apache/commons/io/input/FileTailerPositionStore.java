@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Keeps {@link Tailer} positions in a properties file.
+ * <p>
+ * Positions are kept in memory and saved when {@link #flush()} is called, or when a position is put or
+ * {@link #flushIfDue()} is called and the flush interval has elapsed since the last save. The file is replaced
+ * atomically where the file system supports it, so a crash leaves either the previous or the new positions. Instances
+ * are thread-safe and can be shared by the tailers of a {@link TailerGroup}.
+ * </p>
+ *
+ * @since 2.9.0
+ */
+public class FileTailerPositionStore implements TailerPositionStore {
+
+    private static final String SEPARATOR = ",";
+
+    private static String format(final TailerPosition position) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(position.getOffset()).append(SEPARATOR).append(position.getLastModified()).append(SEPARATOR)
+            .append(position.getFingerprint());
+        if (position.getFileKey() != null) {
+            builder.append(SEPARATOR).append(position.getFileKey());
+        }
+        return builder.toString();
+    }
+
+    private static String key(final File file) {
+        return file.getAbsolutePath();
+    }
+
+    private static TailerPosition parse(final String value) {
+        // the file key is last as it may contain the separator
+        final String[] fields = value.split(SEPARATOR, 4);
+        if (fields.length < 3) {
+            throw new IllegalArgumentException("Invalid position: " + value);
+        }
+        return new TailerPosition(Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+            fields.length > 3 ? fields[3] : null);
+    }
+
+    private boolean dirty;
+    private final long flushIntervalMillis;
+    private long flushMillis;
+    private final Path path;
+    private final Map<String, TailerPosition> positions = new HashMap<>();
+
+    /**
+     * Constructs a new instance, reading the positions saved in the given file if it exists.
+     *
+     * @param path the properties file.
+     * @param flushIntervalMillis the minimum time between saves when positions are put, 0 to save on every put.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the file contains an invalid position or {@code flushIntervalMillis} is
+     *         negative.
+     */
+    public FileTailerPositionStore(final Path path, final long flushIntervalMillis) throws IOException {
+        if (flushIntervalMillis < 0) {
+            throw new IllegalArgumentException("flushIntervalMillis must not be negative: " + flushIntervalMillis);
+        }
+        this.path = Objects.requireNonNull(path, "path");
+        this.flushIntervalMillis = flushIntervalMillis;
+        if (Files.exists(path)) {
+            final Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(path)) {
+                properties.load(in);
+            }
+            for (final String name : properties.stringPropertyNames()) {
+                positions.put(name, parse(properties.getProperty(name)));
+            }
+        }
+        this.flushMillis = System.currentTimeMillis();
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        if (!dirty) {
+            return;
+        }
+        final Properties properties = new Properties();
+        positions.forEach((name, position) -> properties.setProperty(name, format(position)));
+        final Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, null);
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        dirty = false;
+        flushMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Saves the positions put since the last save if the flush interval has elapsed since then.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Override
+    public synchronized void flushIfDue() throws IOException {
+        if (dirty && System.currentTimeMillis() - flushMillis >= flushIntervalMillis) {
+            flush();
+        }
+    }
+
+    @Override
+    public synchronized TailerPosition get(final File file) {
+        return positions.get(key(file));
+    }
+
+    /**
+     * Gets the properties file.
+     *
+     * @return the properties file.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public synchronized void put(final File file, final TailerPosition position) throws IOException {
+        positions.put(key(file), Objects.requireNonNull(position, "position"));
+        dirty = true;
+        flushIfDue();
+    }
+
+    @Override
+    public String toString() {
+        return "FileTailerPositionStore [path=" + path + ", flushIntervalMillis=" + flushIntervalMillis + "]";
+    }
+}
@@ -19,26 +19,47 @@
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.io.Charsets;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.StandardLineSeparator;
+import org.apache.commons.io.function.IOConsumer;
 
 /**
  * Reads lines in a file reversely (similar to a BufferedReader, but starting at
  * the last line). Useful for e.g. searching in log files.
+ * <p>
+ * By default the file is read in blocks. A memory mapped reader, see
+ * {@link #ReversedLinesFileReader(Path, Charset, boolean)}, instead maps the
+ * file and searches it for line breaks in place, only decoding the lines it
+ * returns.
+ * </p>
  *
  * @since 2.2
  */
@@ -49,6 +70,8 @@ private class FilePart {
 
         private final byte[] data;
 
+        private final ByteBuffer dataBuffer;
+
         private byte[] leftOver;
 
         private int currentLastBytePos;
@@ -79,6 +102,7 @@ private FilePart(final long no, final int length, final byte[] leftOverOfLastFil
             if (leftOverOfLastFilePart != null) {
                 System.arraycopy(leftOverOfLastFilePart, 0, data, length, leftOverOfLastFilePart.length);
             }
+            this.dataBuffer = ByteBuffer.wrap(data);
             this.currentLastBytePos = data.length - 1;
             this.leftOver = null;
         }
@@ -120,13 +144,14 @@ private int getNewLineMatchByteCount(final byte[] data, final int i) {
         }
 
         /**
-         * Reads a line.
+         * Finds a line and points {@link ReversedLinesFileReader#lineBytes} at
+         * its bytes.
          *
-         * @return the line or null
+         * @return whether a line was found
          */
-        private String readLine() {
+        private boolean findLine() {
 
-            String line = null;
+            boolean found = false;
             int newLineMatchByteCount;
 
             final boolean isLastFilePart = no == 1;
@@ -149,10 +174,11 @@ private String readLine() {
                     if (lineLengthBytes < 0) {
                         throw new IllegalStateException("Unexpected negative line length=" + lineLengthBytes);
                     }
-                    final byte[] lineData = IOUtils.byteArray(lineLengthBytes);
-                    System.arraycopy(data, lineStart, lineData, 0, lineLengthBytes);
-
-                    line = new String(lineData, charset);
+                    dataBuffer.clear();
+                    dataBuffer.position(lineStart);
+                    dataBuffer.limit(lineStart + lineLengthBytes);
+                    lineBytes = dataBuffer;
+                    found = true;
 
                     currentLastBytePos = i - newLineMatchByteCount;
                     break; // found line
@@ -171,11 +197,12 @@ private String readLine() {
             // --- last file part handling ---
             if (isLastFilePart && leftOver != null) {
                 // there will be no line break anymore, this is the first line of the file
-                line = new String(leftOver, charset);
+                lineBytes = ByteBuffer.wrap(leftOver);
+                found = true;
                 leftOver = null;
             }
 
-            return line;
+            return found;
         }
 
         /**
@@ -203,8 +230,271 @@ private FilePart rollOver() throws IOException {
         }
     }
 
+    /**
+     * Reads lines from memory mapped segments of the file, mapping segments as
+     * the reader moves towards the start of the file.
+     */
+    private final class MappedLines {
+
+        /**
+         * The size of the mapped segments.
+         */
+        private final int segmentSize;
+
+        private final ByteBuffer[] segments;
+
+        /**
+         * Duplicates of the segments pointed at lines.
+         */
+        private final ByteBuffer[] views;
+
+        /**
+         * Holds a copy of a line spanning segments.
+         */
+        private ByteBuffer spanningLine;
+
+        /**
+         * Whether line breaks are the single bytes LF and CR, which allows
+         * searching for them eight bytes at a time.
+         */
+        private final boolean singleByteNewLines;
+
+        /**
+         * The exclusive end of the bytes not yet returned as lines.
+         */
+        private long end;
+
+        /**
+         * ctor
+         *
+         * @param segmentSize the size of the mapped segments
+         * @throws IOException if there is a problem mapping the file
+         * @throws UnsupportedOperationException if the file system does not
+         *                                       support mapping
+         */
+        private MappedLines(final int segmentSize) throws IOException {
+            this.segmentSize = segmentSize;
+            this.segments = new ByteBuffer[(int) ((totalByteLength + segmentSize - 1) / segmentSize)];
+            this.views = new ByteBuffer[segments.length];
+            this.singleByteNewLines = byteDecrement == 1 && Arrays.equals(newLineSequences[1], new byte[] {LF})
+                    && Arrays.equals(newLineSequences[2], new byte[] {CR});
+            this.end = totalByteLength;
+            if (segments.length > 0) {
+                // the first segment needed, fails early if the file can't be mapped
+                segment(segments.length - 1);
+            }
+        }
+
+        private byte get(final long position) throws IOException {
+            return segment((int) (position / segmentSize)).get((int) (position % segmentSize));
+        }
+
+        /**
+         * Finds the last LF or CR byte before the given position.
+         *
+         * @param limit the position to search from, exclusive
+         * @return the position of the byte or -1 if there is none
+         * @throws IOException if there is a problem mapping the file
+         */
+        private long lastIndexOfNewLine(final long limit) throws IOException {
+            long segmentEnd = limit;
+            while (segmentEnd > 0) {
+                final int index = (int) ((segmentEnd - 1) / segmentSize);
+                final long segmentStart = (long) index * segmentSize;
+                final int found = ReversedLinesFileReader.lastIndexOfNewLine(segment(index),
+                        (int) (segmentEnd - segmentStart));
+                if (found >= 0) {
+                    return segmentStart + found;
+                }
+                segmentEnd = segmentStart;
+            }
+            return -1;
+        }
+
+        /**
+         * Finds the new-line sequence ending at the given position and return
+         * its length.
+         *
+         * @param i the position of the last byte of the sequence
+         * @return length of newline sequence or 0 if none found
+         * @throws IOException if there is a problem mapping the file
+         */
+        private int getNewLineMatchByteCount(final long i) throws IOException {
+            for (final byte[] newLineSequence : newLineSequences) {
+                boolean match = i - (newLineSequence.length - 1) >= 0;
+                for (int j = newLineSequence.length - 1; match && j >= 0; j--) {
+                    match = get(i + j - (newLineSequence.length - 1)) == newLineSequence[j];
+                }
+                if (match) {
+                    return newLineSequence.length;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Finds a line and points {@link ReversedLinesFileReader#lineBytes} at
+         * its bytes.
+         *
+         * @return whether a line was found
+         * @throws IOException if there is a problem mapping the file
+         */
+        private boolean findLine() throws IOException {
+            if (end <= 0) {
+                return false;
+            }
+            long i;
+            int newLineMatchByteCount = 0;
+            if (singleByteNewLines) {
+                i = lastIndexOfNewLine(end);
+                if (i >= 0) {
+                    newLineMatchByteCount = get(i) == LF && i > 0 && get(i - 1) == CR ? 2 : 1;
+                }
+            } else {
+                for (i = end - 1; i >= 0; i -= byteDecrement) {
+                    newLineMatchByteCount = getNewLineMatchByteCount(i);
+                    if (newLineMatchByteCount > 0) {
+                        break;
+                    }
+                }
+            }
+            if (i < 0) {
+                // there is no line break anymore, this is the first line of the file
+                pointAt(0, end);
+                end = 0;
+                return true;
+            }
+            pointAt(i + 1, end);
+            end = i - newLineMatchByteCount + 1;
+            return true;
+        }
+
+        /**
+         * Points {@link ReversedLinesFileReader#lineBytes} at a range of the
+         * file, the range is copied if it spans segments.
+         *
+         * @param start the first byte of the range
+         * @param stop  the end of the range, exclusive
+         * @throws IOException if there is a problem mapping the file
+         */
+        private void pointAt(final long start, final long stop) throws IOException {
+            final int length = Math.toIntExact(stop - start);
+            if (length == 0) {
+                lineBytes = EMPTY_BYTE_BUFFER;
+                return;
+            }
+            final int index = (int) (start / segmentSize);
+            final int segmentOffset = (int) (start % segmentSize);
+            final ByteBuffer segment = segment(index);
+            if (segmentOffset + length <= segment.limit()) {
+                ByteBuffer view = views[index];
+                if (view == null) {
+                    view = segment.duplicate();
+                    views[index] = view;
+                }
+                view.clear();
+                view.position(segmentOffset);
+                view.limit(segmentOffset + length);
+                lineBytes = view;
+                return;
+            }
+            if (spanningLine == null || spanningLine.capacity() < length) {
+                spanningLine = ByteBuffer.allocate(length);
+            }
+            spanningLine.clear();
+            long position = start;
+            while (spanningLine.position() < length) {
+                final ByteBuffer view = segment((int) (position / segmentSize)).duplicate();
+                view.position((int) (position % segmentSize));
+                view.limit(Math.min(view.limit(), view.position() + length - spanningLine.position()));
+                position += view.remaining();
+                spanningLine.put(view);
+            }
+            spanningLine.flip();
+            lineBytes = spanningLine;
+        }
+
+        private ByteBuffer segment(final int index) throws IOException {
+            ByteBuffer segment = segments[index];
+            if (segment == null) {
+                final long position = (long) index * segmentSize;
+                segment = ((FileChannel) channel).map(MapMode.READ_ONLY, position,
+                        Math.min(segmentSize, totalByteLength - position));
+                segments[index] = segment;
+            }
+            return segment;
+        }
+    }
+
     private static final String EMPTY_STRING = "";
+    private static final ByteBuffer EMPTY_BYTE_BUFFER = ByteBuffer.allocate(0);
     private static final int DEFAULT_BLOCK_SIZE = IOUtils.DEFAULT_BUFFER_SIZE;
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final long CR_WORD = 0x0D0D0D0D0D0D0D0DL;
+    private static final long LF_WORD = 0x0A0A0A0A0A0A0A0AL;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    /**
+     * The size of the regions a memory mapped reader maps.
+     */
+    private static final int MAPPED_SEGMENT_SIZE = 1 << 30;
+
+    /**
+     * Finds the last LF or CR byte before the given index of a big-endian
+     * buffer, testing eight bytes at a time.
+     *
+     * @param buffer the buffer to search
+     * @param limit  the index to search from, exclusive
+     * @return the index of the byte or -1 if there is none
+     */
+    private static int lastIndexOfNewLine(final ByteBuffer buffer, final int limit) {
+        int i = limit;
+        while (i >= Long.BYTES) {
+            final long word = buffer.getLong(i - Long.BYTES);
+            final long mask = zeroBytes(word ^ LF_WORD) | zeroBytes(word ^ CR_WORD);
+            if (mask != 0) {
+                // the lowest flagged byte is always a zero byte, and it is the last one of the word
+                return i - 1 - (Long.numberOfTrailingZeros(mask) >>> 3);
+            }
+            i -= Long.BYTES;
+        }
+        while (--i >= 0) {
+            final byte b = buffer.get(i);
+            if (b == LF || b == CR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Opens a file channel to map the file, or a byte channel if the file
+     * system of the file does not support file channels.
+     *
+     * @param file the file
+     * @return the channel
+     * @throws IOException if an I/O error occurs
+     */
+    private static SeekableByteChannel openFileChannel(final Path file) throws IOException {
+        try {
+            return FileChannel.open(file, StandardOpenOption.READ);
+        } catch (final UnsupportedOperationException e) {
+            return Files.newByteChannel(file, StandardOpenOption.READ);
+        }
+    }
+
+    /**
+     * Flags the zero bytes of a word with their high bit, bytes above the lowest
+     * zero byte may be flagged wrongly.
+     *
+     * @param word the word
+     * @return the flags
+     */
+    private static long zeroBytes(final long word) {
+        return (word - LOW_BITS) & ~word & HIGH_BITS;
+    }
 
     private final int blockSize;
     private final Charset charset;
@@ -215,8 +505,24 @@ private FilePart rollOver() throws IOException {
     private final int avoidNewlineSplitBufferSize;
     private final int byteDecrement;
     private FilePart currentFilePart;
+    private final MappedLines mappedLines;
     private boolean trailingNewlineOfFileSkipped;
 
+    /**
+     * The bytes of the line found last, from position to limit.
+     */
+    private ByteBuffer lineBytes;
+
+    /**
+     * Decodes lines passed to consumers, created on first use.
+     */
+    private CharsetDecoder lineDecoder;
+
+    /**
+     * The characters of the line passed to consumers, reused for each line.
+     */
+    private CharBuffer lineChars;
+
     /**
      * Creates a ReversedLinesFileReader with default block size of 4KB and the
      * platform's default encoding.
@@ -302,7 +608,45 @@ public ReversedLinesFileReader(final Path file, final Charset charset) throws IO
      * @since 2.7
      */
     public ReversedLinesFileReader(final Path file, final int blockSize, final Charset charset) throws IOException {
-        this.blockSize = blockSize;
+        this(file, blockSize, charset, false);
+    }
+
+    /**
+     * Creates a ReversedLinesFileReader with the given encoding that reads
+     * blocks of 4KB or maps the file into memory.
+     * <p>
+     * A memory mapped reader searches the file for line breaks where it is
+     * mapped, eight bytes at a time for encodings where line breaks are single
+     * bytes, and only decodes the lines it returns. Mappings are released when
+     * garbage collected. If the file system of the file does not support
+     * mapping, the file is read in blocks.
+     * </p>
+     *
+     * @param file         the file to be read
+     * @param charset      the encoding of the file, null uses the default
+     *                     Charset.
+     * @param memoryMapped whether to map the file into memory.
+     * @throws IOException if an I/O error occurs.
+     * @since 2.9.0
+     */
+    public ReversedLinesFileReader(final Path file, final Charset charset, final boolean memoryMapped)
+            throws IOException {
+        this(file, memoryMapped ? MAPPED_SEGMENT_SIZE : DEFAULT_BLOCK_SIZE, charset, memoryMapped);
+    }
+
+    /**
+     * Creates a ReversedLinesFileReader with the given block size and encoding.
+     *
+     * @param file         the file to be read
+     * @param blockSize    size of the internal buffer, or of the mapped
+     *                     segments of a memory mapped reader.
+     * @param charset      the encoding of the file, null uses the default
+     *                     Charset.
+     * @param memoryMapped whether to map the file into memory.
+     * @throws IOException if an I/O error occurs.
+     */
+    ReversedLinesFileReader(final Path file, final int blockSize, final Charset charset, final boolean memoryMapped)
+            throws IOException {
         this.charset = Charsets.toCharset(charset);
 
         // --- check & prepare encoding ---
@@ -347,18 +691,38 @@ public ReversedLinesFileReader(final Path file, final int blockSize, final Chars
         this.avoidNewlineSplitBufferSize = newLineSequences[0].length;
 
         // Open file
-        this.channel = Files.newByteChannel(file, StandardOpenOption.READ);
-        this.totalByteLength = channel.size();
-        int lastBlockLength = (int) (this.totalByteLength % blockSize);
+        this.channel = memoryMapped ? openFileChannel(file) : Files.newByteChannel(file, StandardOpenOption.READ);
+        MappedLines mapped = null;
+        try {
+            this.totalByteLength = channel.size();
+            if (memoryMapped && channel instanceof FileChannel) {
+                try {
+                    mapped = new MappedLines(blockSize);
+                } catch (final UnsupportedOperationException e) {
+                    // read blocks instead
+                }
+            }
+        } catch (final IOException | RuntimeException e) {
+            try {
+                channel.close();
+            } catch (final IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        this.mappedLines = mapped;
+        // the block size of a memory mapped reader is the segment size, too large to read blocks of
+        this.blockSize = mapped != null || !memoryMapped ? blockSize : Math.min(blockSize, DEFAULT_BLOCK_SIZE);
+        int lastBlockLength = (int) (this.totalByteLength % this.blockSize);
         if (lastBlockLength > 0) {
-            this.totalBlockCount = this.totalByteLength / blockSize + 1;
+            this.totalBlockCount = this.totalByteLength / this.blockSize + 1;
         } else {
-            this.totalBlockCount = this.totalByteLength / blockSize;
+            this.totalBlockCount = this.totalByteLength / this.blockSize;
             if (this.totalByteLength > 0) {
-                lastBlockLength = blockSize;
+                lastBlockLength = this.blockSize;
             }
         }
-        this.currentFilePart = new FilePart(totalBlockCount, lastBlockLength, null);
+        this.currentFilePart = mappedLines == null ? new FilePart(totalBlockCount, lastBlockLength, null) : null;
 
     }
 
@@ -393,31 +757,117 @@ public void close() throws IOException {
     }
 
     /**
-     * Returns the lines of the file from bottom to top.
+     * Decodes {@link #lineBytes} into {@link #lineChars}, replacing malformed
+     * input like {@link #readLine()} does.
      *
-     * @return the next line or null if the start of the file is reached
-     * @throws IOException if an I/O error occurs.
+     * @return the line characters.
      */
-    public String readLine() throws IOException {
+    private CharBuffer decodeLine() {
+        if (lineDecoder == null) {
+            lineDecoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        final int capacity = (int) Math.ceil(lineBytes.remaining() * (double) lineDecoder.maxCharsPerByte()) + 1;
+        if (lineChars == null || lineChars.capacity() < capacity) {
+            lineChars = CharBuffer.allocate(Math.max(capacity, DEFAULT_BLOCK_SIZE));
+        }
+        lineChars.clear();
+        lineDecoder.reset();
+        lineDecoder.decode(lineBytes, lineChars, true);
+        lineDecoder.flush(lineChars);
+        lineChars.flip();
+        return lineChars;
+    }
 
-        String line = currentFilePart.readLine();
-        while (line == null) {
-            currentFilePart = currentFilePart.rollOver();
-            if (currentFilePart != null) {
-                line = currentFilePart.readLine();
-            } else {
-                // no more fileparts: we're done, leave line set to null
-                break;
+    /**
+     * Finds the next line from bottom to top and points {@link #lineBytes} at
+     * its bytes.
+     *
+     * @return whether a line was found, false at the start of the file
+     * @throws IOException if an I/O error occurs.
+     */
+    private boolean findLine() throws IOException {
+        boolean found;
+        if (mappedLines != null) {
+            found = mappedLines.findLine();
+        } else {
+            found = currentFilePart != null && currentFilePart.findLine();
+            while (!found && currentFilePart != null) {
+                currentFilePart = currentFilePart.rollOver();
+                // no more fileparts: we're done
+                found = currentFilePart != null && currentFilePart.findLine();
             }
         }
 
         // aligned behavior with BufferedReader that doesn't return a last, empty line
-        if (EMPTY_STRING.equals(line) && !trailingNewlineOfFileSkipped) {
+        if (found && !lineBytes.hasRemaining() && !trailingNewlineOfFileSkipped) {
             trailingNewlineOfFileSkipped = true;
-            line = readLine();
+            return findLine();
         }
+        return found;
+    }
+
+    /**
+     * Returns a stream of the lines of the file from bottom to top, read as the
+     * stream is consumed.
+     * <p>
+     * Like {@link java.io.BufferedReader#lines()}, an {@link IOException} is
+     * thrown as an {@link UncheckedIOException} and closing the stream does not
+     * close this reader.
+     * </p>
+     *
+     * @return a stream of the lines of the file from bottom to top.
+     * @since 2.9.0
+     */
+    public Stream<String> lines() {
+        final Iterator<String> iterator = new Iterator<String>() {
+            private String nextLine;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                if (nextLine == null && !done) {
+                    try {
+                        nextLine = readLine();
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    done = nextLine == null;
+                }
+                return nextLine != null;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final String line = nextLine;
+                nextLine = null;
+                return line;
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
 
-        return line;
+    /**
+     * Returns the lines of the file from bottom to top.
+     *
+     * @return the next line or null if the start of the file is reached
+     * @throws IOException if an I/O error occurs.
+     */
+    public String readLine() throws IOException {
+        if (!findLine()) {
+            return null;
+        }
+        if (lineBytes.hasArray()) {
+            return new String(lineBytes.array(), lineBytes.arrayOffset() + lineBytes.position(), lineBytes.remaining(),
+                    charset);
+        }
+        final byte[] lineData = IOUtils.byteArray(lineBytes.remaining());
+        lineBytes.get(lineData);
+        return new String(lineData, charset);
     }
 
     /**
@@ -450,6 +900,35 @@ public List<String> readLines(final int lineCount) throws IOException {
         return arrayList;
     }
 
+    /**
+     * Passes up to {@code lineCount} lines of the file from bottom to top to a
+     * consumer without creating a String for each line.
+     * <p>
+     * The consumer receives the same {@link CharSequence}, refilled for each
+     * line. It is only valid during the call and must be copied, for example
+     * with {@code toString()}, to be kept.
+     * </p>
+     *
+     * @param lineCount How many lines to read.
+     * @param consumer  Receives the lines.
+     * @return The number of lines passed to the consumer, less than
+     *         {@code lineCount} if the start of the file is reached.
+     * @throws IOException if an I/O error occurs or the consumer throws one.
+     * @since 2.9.0
+     */
+    public int readLines(final int lineCount, final IOConsumer<CharSequence> consumer) throws IOException {
+        if (lineCount < 0) {
+            throw new IllegalArgumentException("lineCount < 0");
+        }
+        Objects.requireNonNull(consumer, "consumer");
+        int count = 0;
+        while (count < lineCount && findLine()) {
+            consumer.accept(decodeLine());
+            count++;
+        }
+        return count;
+    }
+
     /**
      * Returns the last {@code lineCount} lines of the file.
      * <p>
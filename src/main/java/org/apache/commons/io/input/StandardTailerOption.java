@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Defines the standard {@link Tailer} options.
+ *
+ * @since 2.9.0
+ */
+public enum StandardTailerOption implements TailerOption {
+
+    /**
+     * Keeps reading a rotated file to its end before switching to the new file, so lines written to the old file
+     * after the last check are not lost.
+     * <p>
+     * The tailer compares the {@link java.nio.file.attribute.BasicFileAttributes#fileKey() file key} of the file with
+     * the one of the file it reads. When the file was renamed or deleted, it drains the file it reads and keeps it
+     * open until a new file is created, then switches to the new file. When the file was truncated in place, as with
+     * copytruncate rotation, it reads the file again from the beginning. Without file keys, on Windows for example,
+     * or when the file is reopened between checks, rotations are detected from the length of the file only.
+     * </p>
+     */
+    DRAIN_ON_ROTATION,
+
+    /**
+     * Waits for changes to the file with a {@link java.nio.file.WatchService} on its directory instead of sleeping for
+     * the delay, the delay then only bounds how long the tailer waits without an event. If no watch service is
+     * available, the tailer polls with a delay that starts at one millisecond after each change and doubles while the
+     * file is idle, up to the delay.
+     */
+    WATCH;
+
+    private static boolean contains(final TailerOption[] options, final TailerOption option) {
+        if (IOUtils.length(options) == 0) {
+            return false;
+        }
+        for (final TailerOption tailerOption : options) {
+            if (tailerOption == option) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the given options contain {@link StandardTailerOption#DRAIN_ON_ROTATION}.
+     *
+     * @param options the array to test, may be null.
+     * @return true if the given options contain {@link StandardTailerOption#DRAIN_ON_ROTATION}.
+     */
+    public static boolean drainOnRotation(final TailerOption[] options) {
+        return contains(options, DRAIN_ON_ROTATION);
+    }
+
+    /**
+     * Returns true if the given options contain {@link StandardTailerOption#WATCH}.
+     *
+     * @param options the array to test, may be null.
+     * @return true if the given options contain {@link StandardTailerOption#WATCH}.
+     */
+    public static boolean watch(final TailerOption[] options) {
+        return contains(options, WATCH);
+    }
+
+}
@@ -25,7 +25,22 @@
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
@@ -48,6 +63,11 @@
  *      }
  *  }</pre>
  *
+ * <p>
+ * To receive the lines read at once, implement {@link TailerBatchListener}, or {@link TailerBytesListener} to receive
+ * their bytes without decoding them.
+ * </p>
+ *
  * <h2>2. Using a Tailer</h2>
  *
  * <p>
@@ -118,6 +138,16 @@
  * <p>
  * The file is read using the default charset; this can be overridden if necessary.
  * </p>
+ *
+ * <h2>5. Watching a file</h2>
+ * <p>
+ * By default the tailer sleeps for the delay between checks of the file. With {@link StandardTailerOption#WATCH},
+ * it waits for changes to the file with a {@link WatchService} instead, so new lines are handled shortly after they
+ * are written and an idle tailer only wakes up once per delay:
+ * </p>
+ * <pre>
+ *      Tailer tailer = Tailer.create(file, charset, listener, delay, false, false, bufSize, StandardTailerOption.WATCH);
+ * </pre>
  * @see TailerListener
  * @see TailerListenerAdapter
  * @since 2.0
@@ -127,6 +157,18 @@ public class Tailer implements Runnable {
 
     private static final int DEFAULT_DELAY_MILLIS = 1000;
 
+    /**
+     * The maximum number of bytes at the start of the file kept as a fingerprint with a position.
+     */
+    private static final int FINGERPRINT_LENGTH = 1024;
+
+    private static final TailerOption[] EMPTY_TAILER_OPTION_ARRAY = new TailerOption[0];
+
+    /**
+     * The polling delay after a change when watching without a watch service.
+     */
+    private static final long MIN_POLL_DELAY_MILLIS = 1;
+
     private static final String RAF_MODE = "r";
 
     // The default charset used for reading files
@@ -172,6 +214,56 @@ public class Tailer implements Runnable {
      */
     private volatile boolean run = true;
 
+    /**
+     * Whether to wait for changes instead of sleeping for the delay.
+     */
+    private final boolean watch;
+
+    /**
+     * Whether to drain a rotated file before switching to the new one.
+     */
+    private final boolean drainOnRotation;
+
+    /**
+     * Where to keep the position, may be null.
+     */
+    private final TailerPositionStore positionStore;
+
+    /**
+     * The file key of the file when it was opened, may be null.
+     */
+    private String fileKey;
+
+    /**
+     * The current polling delay when watching without a watch service.
+     */
+    private long pollDelayMillis = MIN_POLL_DELAY_MILLIS;
+
+    /**
+     * The file being read, null before it is opened, while it is not found and between checks when reopening.
+     */
+    private RandomAccessFile reader;
+
+    /**
+     * Whether the file has been opened once.
+     */
+    private boolean opened;
+
+    /**
+     * The position within the file up to which lines have been handled.
+     */
+    private volatile long position;
+
+    /**
+     * The last time the file was checked for changes.
+     */
+    private long last;
+
+    /**
+     * The watch service on the directory of the file, null when not watching or when no watch service is available.
+     */
+    private volatile WatchService watchService;
+
     /**
      * Creates a Tailer for the given file, starting from the beginning, with the default delay of 1.0s.
      * @param file The file to follow.
@@ -255,6 +347,48 @@ public Tailer(final File file, final TailerListener listener, final long delayMi
     public Tailer(final File file, final Charset charset, final TailerListener listener, final long delayMillis,
                   final boolean end, final boolean reOpen
             , final int bufSize) {
+        this(file, charset, listener, delayMillis, end, reOpen, bufSize, EMPTY_TAILER_OPTION_ARRAY);
+    }
+
+    /**
+     * Creates a Tailer for the given file, with the given options.
+     * @param file the file to follow.
+     * @param charset the Charset to be used for reading the file
+     * @param listener the TailerListener to use.
+     * @param delayMillis the delay between checks of the file for new content in milliseconds.
+     * @param end Set to true to tail from the end of the file, false to tail from the beginning of the file.
+     * @param reOpen if true, close and reopen the file between reading chunks
+     * @param bufSize Buffer size
+     * @param options how to follow the file, see {@link StandardTailerOption}.
+     * @since 2.9.0
+     */
+    public Tailer(final File file, final Charset charset, final TailerListener listener, final long delayMillis,
+                  final boolean end, final boolean reOpen, final int bufSize, final TailerOption... options) {
+        this(file, charset, listener, delayMillis, end, reOpen, bufSize, null, options);
+    }
+
+    /**
+     * Creates a Tailer for the given file that resumes from the position kept in the given store.
+     * <p>
+     * If the store has a position for the file and the file still has the same file key, is not shorter, was not
+     * modified before the position was saved and starts with the same bytes, the tailer starts at that position. If
+     * the file was rotated, the listener is notified and the tailer starts at the beginning of the new file.
+     * Otherwise, the tailer starts as given by {@code end}.
+     * </p>
+     * @param file the file to follow.
+     * @param charset the Charset to be used for reading the file
+     * @param listener the TailerListener to use.
+     * @param delayMillis the delay between checks of the file for new content in milliseconds.
+     * @param end Set to true to tail from the end of the file, false to tail from the beginning of the file.
+     * @param reOpen if true, close and reopen the file between reading chunks
+     * @param bufSize Buffer size
+     * @param positionStore where to keep the position of the tailer, may be null.
+     * @param options how to follow the file, see {@link StandardTailerOption}.
+     * @since 2.9.0
+     */
+    public Tailer(final File file, final Charset charset, final TailerListener listener, final long delayMillis,
+                  final boolean end, final boolean reOpen, final int bufSize, final TailerPositionStore positionStore,
+                  final TailerOption... options) {
         this.file = file;
         this.delayMillis = delayMillis;
         this.end = end;
@@ -266,6 +400,9 @@ public Tailer(final File file, final Charset charset, final TailerListener liste
         listener.init(this);
         this.reOpen = reOpen;
         this.charset = charset;
+        this.watch = StandardTailerOption.watch(options);
+        this.drainOnRotation = StandardTailerOption.drainOnRotation(options) && !reOpen;
+        this.positionStore = positionStore;
     }
 
     /**
@@ -315,7 +452,50 @@ public static Tailer create(final File file, final TailerListener listener, fina
     public static Tailer create(final File file, final Charset charset, final TailerListener listener,
                                 final long delayMillis, final boolean end, final boolean reOpen
             ,final int bufSize) {
-        final Tailer tailer = new Tailer(file, charset, listener, delayMillis, end, reOpen, bufSize);
+        return create(file, charset, listener, delayMillis, end, reOpen, bufSize, EMPTY_TAILER_OPTION_ARRAY);
+    }
+
+    /**
+     * Creates and starts a Tailer for the given file, with the given options.
+     *
+     * @param file the file to follow.
+     * @param charset the character set to use for reading the file
+     * @param listener the TailerListener to use.
+     * @param delayMillis the delay between checks of the file for new content in milliseconds.
+     * @param end Set to true to tail from the end of the file, false to tail from the beginning of the file.
+     * @param reOpen whether to close/reopen the file between chunks
+     * @param bufSize buffer size.
+     * @param options how to follow the file, see {@link StandardTailerOption}.
+     * @return The new tailer
+     * @since 2.9.0
+     */
+    public static Tailer create(final File file, final Charset charset, final TailerListener listener,
+        final long delayMillis, final boolean end, final boolean reOpen, final int bufSize,
+        final TailerOption... options) {
+        return create(file, charset, listener, delayMillis, end, reOpen, bufSize, null, options);
+    }
+
+    /**
+     * Creates and starts a Tailer for the given file that resumes from the position kept in the given store.
+     *
+     * @param file the file to follow.
+     * @param charset the character set to use for reading the file
+     * @param listener the TailerListener to use.
+     * @param delayMillis the delay between checks of the file for new content in milliseconds.
+     * @param end Set to true to tail from the end of the file, false to tail from the beginning of the file.
+     * @param reOpen whether to close/reopen the file between chunks
+     * @param bufSize buffer size.
+     * @param positionStore where to keep the position of the tailer, may be null.
+     * @param options how to follow the file, see {@link StandardTailerOption}.
+     * @return The new tailer
+     * @see #Tailer(File, Charset, TailerListener, long, boolean, boolean, int, TailerPositionStore, TailerOption...)
+     * @since 2.9.0
+     */
+    public static Tailer create(final File file, final Charset charset, final TailerListener listener,
+        final long delayMillis, final boolean end, final boolean reOpen, final int bufSize,
+        final TailerPositionStore positionStore, final TailerOption... options) {
+        final Tailer tailer = new Tailer(file, charset, listener, delayMillis, end, reOpen, bufSize, positionStore,
+            options);
         final Thread thread = new Thread(tailer);
         thread.setDaemon(true);
         thread.start();
@@ -375,6 +555,103 @@ public static Tailer create(final File file, final TailerListener listener) {
         return create(file, listener, DEFAULT_DELAY_MILLIS, false);
     }
 
+    /**
+     * Waits before the next check of the file.
+     * <p>
+     * Without {@link StandardTailerOption#WATCH}, sleeps for the delay. With a watch service, waits up to the delay
+     * for an event about the file. Otherwise, polls with a delay that is reset after a change and doubles up to the
+     * delay while the file is idle.
+     * </p>
+     *
+     * @param changed whether the last check found a change.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    private void await(final boolean changed) throws InterruptedException {
+        if (!watch) {
+            Thread.sleep(delayMillis);
+            return;
+        }
+        final WatchService service = watchService;
+        if (service != null) {
+            try {
+                if (awaitEvent(service)) {
+                    return;
+                }
+            } catch (final ClosedWatchServiceException e) {
+                // stopped
+                return;
+            }
+            // The directory is no longer watched, poll from now on
+            watchService = null;
+            close(service);
+        }
+        pollDelayMillis = changed ? MIN_POLL_DELAY_MILLIS : Math.min(pollDelayMillis * 2, delayMillis);
+        Thread.sleep(pollDelayMillis);
+    }
+
+    /**
+     * Waits up to the delay for an event about the file, ignoring events about other files in its directory.
+     *
+     * @param service the watch service.
+     * @return false if the directory is no longer watched.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    private boolean awaitEvent(final WatchService service) throws InterruptedException {
+        final Path fileName = file.toPath().getFileName();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        long remaining;
+        while (getRun() && (remaining = deadline - System.nanoTime()) > 0) {
+            final WatchKey key = service.poll(remaining, TimeUnit.NANOSECONDS);
+            if (key == null) {
+                return true;
+            }
+            boolean found = false;
+            for (final WatchEvent<?> event : key.pollEvents()) {
+                found |= event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context());
+            }
+            if (!key.reset()) {
+                return false;
+            }
+            if (found) {
+                return true;
+            }
+        }
+        return true;
+    }
+
+    private void close(final WatchService service) {
+        if (service != null) {
+            try {
+                service.close();
+            } catch (final IOException e) {
+                listener.handle(e);
+            }
+        }
+    }
+
+    /**
+     * Opens a watch service on the directory of the file.
+     *
+     * @return the watch service or null if the directory cannot be watched.
+     */
+    private WatchService openWatchService() {
+        final Path directory = file.getAbsoluteFile().toPath().getParent();
+        if (directory == null) {
+            return null;
+        }
+        WatchService service = null;
+        try {
+            service = directory.getFileSystem().newWatchService();
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+            return service;
+        } catch (final IOException | UnsupportedOperationException e) {
+            // For example, the directory does not exist or the system is out of watches: poll instead
+            close(service);
+            return null;
+        }
+    }
+
     /**
      * Return the file.
      *
@@ -408,94 +685,279 @@ public long getDelay() {
      */
     @Override
     public void run() {
-        RandomAccessFile reader = null;
         try {
-            long last = 0; // The last time the file was checked for changes
-            long position = 0; // position within the file
-            // Open the file
-            while (getRun() && reader == null) {
+            if (watch) {
+                watchService = openWatchService();
+            }
+            while (getRun()) {
+                await(tail(inbuf));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            listener.handle(e);
+        } catch (final Exception e) {
+            listener.handle(e);
+        } finally {
+            closeReader();
+            flushPosition();
+            stop();
+        }
+    }
+
+    /**
+     * Closes the file, reporting a failure to the listener.
+     */
+    void closeReader() {
+        try {
+            if (reader != null) {
+                reader.close();
+                reader = null;
+            }
+        } catch (final IOException e) {
+            listener.handle(e);
+        }
+    }
+
+    /**
+     * Gets the file key of the file as a String.
+     *
+     * @return the file key or null if the file system does not provide one.
+     * @throws IOException if an I/O error occurs.
+     */
+    private String fileKey() throws IOException {
+        final Object key = Files.readAttributes(file.toPath(), BasicFileAttributes.class).fileKey();
+        return key == null ? null : key.toString();
+    }
+
+    /**
+     * Gets the file key of the file as a String.
+     *
+     * @return the file key or null if the file does not exist.
+     * @throws IOException if an I/O error occurs.
+     */
+    private String currentFileKey() throws IOException {
+        try {
+            return fileKey();
+        } catch (final NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Computes the CRC32 of the start of the open file, up to the given offset and at most
+     * {@value #FINGERPRINT_LENGTH} bytes, without moving the file pointer.
+     *
+     * @param offset the offset up to which lines have been read.
+     * @return the fingerprint.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long fingerprint(final long offset) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(offset, FINGERPRINT_LENGTH));
+        final FileChannel channel = reader.getChannel();
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+            // keep reading
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        return crc.getValue();
+    }
+
+    /**
+     * Gets the last modified time of the file after reading it.
+     *
+     * @return the last modified time, or the previous one if the file was rotated away since it was read.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long lastModified() throws IOException {
+        try {
+            return FileUtils.lastModified(file);
+        } catch (final NoSuchFileException e) {
+            // the next check sees the rotation
+            return last;
+        }
+    }
+
+    /**
+     * Saves the position put in the position store, reporting a failure to the listener.
+     */
+    void flushPosition() {
+        if (positionStore != null) {
+            try {
+                positionStore.flush();
+            } catch (final IOException e) {
+                listener.handle(e);
+            }
+        }
+    }
+
+    /**
+     * Gets the listener.
+     *
+     * @return the listener.
+     */
+    TailerListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Gets the position within the file up to which lines have been handled.
+     *
+     * @return the position within the file.
+     */
+    long getPosition() {
+        return position;
+    }
+
+    /**
+     * Checks the file once without waiting: opens it if needed, handles a rotation and reads new lines.
+     *
+     * @param buffer the buffer to read with.
+     * @return whether the file changed.
+     * @throws IOException if an I/O error occurs.
+     */
+    boolean tail(final byte[] buffer) throws IOException {
+        if (reader == null) {
+            if (opened) {
+                // Closed between checks, see reOpen
+                reader = new RandomAccessFile(file, RAF_MODE);
+                reader.seek(position);
+            } else {
                 try {
                     reader = new RandomAccessFile(file, RAF_MODE);
                 } catch (final FileNotFoundException e) {
                     listener.fileNotFound();
+                    return false;
                 }
-                if (reader == null) {
-                    Thread.sleep(delayMillis);
-                } else {
-                    // The current position in the file
-                    position = end ? file.length() : 0;
-                    last = FileUtils.lastModified(file);
-                    reader.seek(position);
-                }
+                opened = true;
+                start();
+                reader.seek(position);
             }
-            while (getRun()) {
-                final boolean newer = FileUtils.isFileNewer(file, last); // IO-279, must be done first
-                // Check the file length to see if it was rotated
-                final long length = file.length();
-                if (length < position) {
-                    // File was rotated
+        }
+        boolean changed = false;
+        while (getRun()) {
+            if (drainOnRotation && fileKey != null) {
+                final String currentFileKey = currentFileKey();
+                if (!fileKey.equals(currentFileKey)) {
+                    // Renamed or deleted: drain the old file before switching to the new one
+                    final long drained = readLines(reader, buffer);
+                    if (drained != position) {
+                        position = drained;
+                        changed = true;
+                    }
+                    if (currentFileKey == null) {
+                        // keep the old file until the new one is created
+                        listener.fileNotFound();
+                        break;
+                    }
                     listener.fileRotated();
-                    // Reopen the reader after rotation ensuring that the old file is closed iff we re-open it
-                    // successfully
-                    try (RandomAccessFile save = reader) {
-                        reader = new RandomAccessFile(file, RAF_MODE);
-                        // At this point, we're sure that the old file is rotated
-                        // Finish scanning the old file and then we'll start with the new one
-                        try {
-                            readLines(save);
-                        } catch (final IOException ioe) {
-                            listener.handle(ioe);
-                        }
-                        position = 0;
+                    final RandomAccessFile rotated;
+                    try {
+                        rotated = new RandomAccessFile(file, RAF_MODE);
                     } catch (final FileNotFoundException e) {
-                        // in this case we continue to use the previous reader and position values
                         listener.fileNotFound();
-                        Thread.sleep(delayMillis);
+                        break;
                     }
-                    continue;
-                }
-                // File was not rotated
-                // See if the file needs to be read again
-                if (length > position) {
-                    // The file has more content than it did last time
-                    position = readLines(reader);
-                    last = FileUtils.lastModified(file);
-                } else if (newer) {
-                    /*
-                     * This can happen if the file is truncated or overwritten with the exact same length of
-                     * information. In cases like this, the file position needs to be reset
-                     */
+                    closeReader();
+                    reader = rotated;
+                    fileKey = currentFileKey;
                     position = 0;
-                    reader.seek(position); // cannot be null here
-
-                    // Now we can read new lines
-                    position = readLines(reader);
-                    last = FileUtils.lastModified(file);
-                }
-                if (reOpen && reader != null) {
-                    reader.close();
+                    changed = true;
+                    continue;
                 }
-                Thread.sleep(delayMillis);
-                if (getRun() && reOpen) {
+            }
+            final boolean newer = FileUtils.isFileNewer(file, last); // IO-279, must be done first
+            // Check the file length to see if it was rotated
+            final long length = file.length();
+            if (length < position) {
+                // File was rotated
+                listener.fileRotated();
+                // Reopen the reader after rotation ensuring that the old file is closed iff we re-open it
+                // successfully
+                try (RandomAccessFile save = reader) {
                     reader = new RandomAccessFile(file, RAF_MODE);
-                    reader.seek(position);
+                    if (positionStore != null || drainOnRotation) {
+                        fileKey = fileKey();
+                    }
+                    // At this point, we're sure that the old file is rotated
+                    // Finish scanning the old file and then we'll start with the new one
+                    try {
+                        readLines(save, buffer);
+                    } catch (final IOException ioe) {
+                        listener.handle(ioe);
+                    }
+                    position = 0;
+                } catch (final FileNotFoundException e) {
+                    // in this case we continue to use the previous reader and position values
+                    listener.fileNotFound();
+                    return changed;
                 }
+                changed = true;
+                continue;
             }
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            listener.handle(e);
-        } catch (final Exception e) {
-            listener.handle(e);
-        } finally {
-            try {
-                if (reader != null) {
-                    reader.close();
+            // File was not rotated
+            // See if the file needs to be read again
+            if (length > position) {
+                // The file has more content than it did last time
+                position = readLines(reader, buffer);
+                last = lastModified();
+                changed = true;
+            } else if (newer) {
+                /*
+                 * This can happen if the file is truncated or overwritten with the exact same length of
+                 * information. In cases like this, the file position needs to be reset
+                 */
+                position = 0;
+                reader.seek(position); // cannot be null here
+
+                // Now we can read new lines
+                position = readLines(reader, buffer);
+                last = lastModified();
+                changed = true;
+            }
+            break;
+        }
+        if (positionStore != null) {
+            if (changed) {
+                positionStore.put(file, new TailerPosition(position, last, fingerprint(position), fileKey));
+            } else {
+                // Saves the last position of an idle file
+                positionStore.flushIfDue();
+            }
+        }
+        if (reOpen) {
+            closeReader();
+        }
+        return changed;
+    }
+
+    /**
+     * Sets the position and last modified time when the file is first opened.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void start() throws IOException {
+        final long length = file.length();
+        if (positionStore != null || drainOnRotation) {
+            fileKey = fileKey();
+        }
+        if (positionStore != null) {
+            final TailerPosition saved = positionStore.get(file);
+            if (saved != null) {
+                if (saved.isIn(fileKey, length, FileUtils.lastModified(file), fingerprint(saved.getOffset()))) {
+                    position = saved.getOffset();
+                    last = saved.getLastModified();
+                } else {
+                    // Rotated while not tailing
+                    listener.fileRotated();
+                    position = 0;
+                    last = FileUtils.lastModified(file);
                 }
-            } catch (final IOException e) {
-                listener.handle(e);
+                return;
             }
-            stop();
         }
+        // The current position in the file
+        position = end ? length : 0;
+        last = FileUtils.lastModified(file);
     }
 
     /**
@@ -503,28 +965,41 @@ public void run() {
      */
     public void stop() {
         this.run = false;
+        final WatchService service = watchService;
+        if (service != null) {
+            // wakes up a waiting tailer
+            watchService = null;
+            close(service);
+        }
     }
 
     /**
      * Read new lines.
      *
      * @param reader The file to read
+     * @param buffer the buffer to read with
      * @return The new position after the lines have been read
      * @throws java.io.IOException if an I/O error occurs.
      */
-    private long readLines(final RandomAccessFile reader) throws IOException {
+    private long readLines(final RandomAccessFile reader, final byte[] buffer) throws IOException {
+        if (listener instanceof TailerBytesListener) {
+            return readBytes(reader, buffer, (TailerBytesListener) listener);
+        }
+        final TailerBatchListener batchListener = listener instanceof TailerBatchListener
+            ? (TailerBatchListener) listener : null;
         try (ByteArrayOutputStream lineBuf = new ByteArrayOutputStream(64)) {
             long pos = reader.getFilePointer();
             long rePos = pos; // position to re-read
             int num;
             boolean seenCR = false;
-            while (getRun() && ((num = reader.read(inbuf)) != EOF)) {
+            List<String> lines = batchListener != null ? new ArrayList<>() : null;
+            while (getRun() && ((num = reader.read(buffer)) != EOF)) {
                 for (int i = 0; i < num; i++) {
-                    final byte ch = inbuf[i];
+                    final byte ch = buffer[i];
                     switch (ch) {
                     case LF:
                         seenCR = false; // swallow CR before LF
-                        listener.handle(new String(lineBuf.toByteArray(), charset));
+                        handle(lines, new String(lineBuf.toByteArray(), charset));
                         lineBuf.reset();
                         rePos = pos + i + 1;
                         break;
@@ -537,23 +1012,99 @@ private long readLines(final RandomAccessFile reader) throws IOException {
                     default:
                         if (seenCR) {
                             seenCR = false; // swallow final CR
-                            listener.handle(new String(lineBuf.toByteArray(), charset));
+                            handle(lines, new String(lineBuf.toByteArray(), charset));
                             lineBuf.reset();
                             rePos = pos + i + 1;
                         }
                         lineBuf.write(ch);
                     }
                 }
+                if (lines != null && !lines.isEmpty()) {
+                    batchListener.handle(lines);
+                    lines = new ArrayList<>();
+                }
                 pos = reader.getFilePointer();
             }
 
             reader.seek(rePos); // Ensure we can re-read if necessary
 
-            if (listener instanceof TailerListenerAdapter) {
-                ((TailerListenerAdapter) listener).endOfFileReached();
+            endOfFileReached();
+
+            return rePos;
+        }
+    }
+
+    /**
+     * Reads new complete lines as bytes.
+     *
+     * @param reader The file to read
+     * @param buffer the buffer to read with
+     * @param bytesListener the listener of the lines
+     * @return The new position after the lines have been read
+     * @throws java.io.IOException if an I/O error occurs.
+     */
+    private long readBytes(final RandomAccessFile reader, final byte[] buffer,
+        final TailerBytesListener bytesListener) throws IOException {
+        try (ByteArrayOutputStream pending = new ByteArrayOutputStream(64)) {
+            long pos = reader.getFilePointer();
+            long rePos = pos; // position to re-read
+            int num;
+            boolean seenCR = false;
+            while (getRun() && ((num = reader.read(buffer)) != EOF)) {
+                // the end of the last complete line in the buffer, -1 if none
+                int complete = EOF;
+                for (int i = 0; i < num; i++) {
+                    final byte ch = buffer[i];
+                    if (ch == LF) {
+                        complete = i + 1;
+                    } else if (seenCR) {
+                        complete = i;
+                    }
+                    seenCR = ch == CR;
+                }
+                if (complete == EOF) {
+                    pending.write(buffer, 0, num);
+                } else {
+                    final ByteBuffer lines;
+                    if (pending.size() == 0) {
+                        lines = ByteBuffer.wrap(buffer, 0, complete);
+                    } else {
+                        pending.write(buffer, 0, complete);
+                        lines = ByteBuffer.wrap(pending.toByteArray());
+                        pending.reset();
+                    }
+                    bytesListener.handle(lines);
+                    pending.write(buffer, complete, num - complete);
+                    rePos = pos + complete;
+                }
+                pos = reader.getFilePointer();
             }
 
+            reader.seek(rePos); // Ensure we can re-read if necessary
+
+            endOfFileReached();
+
             return rePos;
         }
     }
+
+    private void endOfFileReached() {
+        if (listener instanceof TailerListenerAdapter) {
+            ((TailerListenerAdapter) listener).endOfFileReached();
+        }
+    }
+
+    /**
+     * Handles a line, now or with the next batch.
+     *
+     * @param lines the batch of lines, null to handle the line now.
+     * @param line the line.
+     */
+    private void handle(final List<String> lines, final String line) {
+        if (lines != null) {
+            lines.add(line);
+        } else {
+            listener.handle(line);
+        }
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import java.util.List;
+
+/**
+ * A {@link TailerListener} that receives lines in batches.
+ * <p>
+ * Instead of calling {@link #handle(String)} for each line, a {@link Tailer} calls {@link #handle(List)} once for the
+ * lines completed by each read of its buffer.
+ * </p>
+ *
+ * @see TailerBytesListener
+ * @since 2.9.0
+ */
+public interface TailerBatchListener extends TailerListener {
+
+    /**
+     * Handles lines from a Tailer.
+     * <p>
+     * <b>Note:</b> this is called from the tailer thread.
+     * </p>
+     *
+     * @param lines the lines in file order, never empty.
+     */
+    void handle(List<String> lines);
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link TailerListener} that receives the bytes of complete lines without decoding them.
+ * <p>
+ * Instead of calling {@link #handle(String)} for each line, a {@link Tailer} calls {@link #handle(ByteBuffer)} once
+ * for the lines completed by each read of its buffer. A line is complete when it ends with LF, CRLF or a CR that is
+ * not followed by LF; the bytes include the line terminators as they are in the file. The Tailer's charset is not
+ * used.
+ * </p>
+ *
+ * @see TailerBatchListener
+ * @since 2.9.0
+ */
+public interface TailerBytesListener extends TailerListener {
+
+    /**
+     * Handles the bytes of complete lines from a Tailer.
+     * <p>
+     * The buffer may wrap the Tailer's read buffer, it is only valid until this method returns.
+     * </p>
+     * <p>
+     * <b>Note:</b> this is called from the tailer thread.
+     * </p>
+     *
+     * @param lines the bytes of one or more complete lines, in file order.
+     */
+    void handle(ByteBuffer lines);
+
+}
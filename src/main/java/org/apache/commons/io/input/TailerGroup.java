@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import java.io.Closeable;
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Tails many files with a {@link ScheduledExecutorService} instead of a thread per file.
+ * <p>
+ * Each file added to the group is followed by a {@link Tailer} that the group checks periodically on one of the
+ * executor's threads; a check reads the new lines and never sleeps. Checks read with a buffer per executor thread, so
+ * memory does not grow with the number of files. The lag of each file, the number of bytes written but not yet
+ * handled, is available from {@link #getLag()}.
+ * </p>
+ * <p>
+ * A tailer stops being checked when it is removed, when its listener stops it or when a check fails, in which case
+ * the listener receives the exception. An {@link Error} goes to the uncaught exception handler of the executor
+ * thread instead.
+ * </p>
+ * <pre>
+ *      try (TailerGroup group = new TailerGroup(4)) {
+ *          for (File file : files) {
+ *              group.add(file, charset, new MyTailerListener(), 1000, true, false);
+ *          }
+ *          ...
+ *      }
+ * </pre>
+ *
+ * @since 2.9.0
+ */
+public class TailerGroup implements Closeable {
+
+    private static final TailerOption[] EMPTY_TAILER_OPTION_ARRAY = new TailerOption[0];
+
+    /**
+     * A tailer and its scheduled checks.
+     */
+    private final class Tail implements Runnable {
+
+        private ScheduledFuture<?> future;
+        private final Tailer tailer;
+
+        Tail(final Tailer tailer) {
+            this.tailer = tailer;
+        }
+
+        /**
+         * Cancels the checks and closes the file, waiting for a running check to complete.
+         */
+        synchronized void cancel() {
+            tailer.stop();
+            if (future != null) {
+                future.cancel(false);
+            }
+            tailer.closeReader();
+            tailer.flushPosition();
+        }
+
+        @Override
+        public synchronized void run() {
+            if (!tailer.getRun()) {
+                remove(tailer);
+                return;
+            }
+            try {
+                tailer.tail(buffers.get());
+            } catch (final Exception e) {
+                tailer.getListener().handle(e);
+                remove(tailer);
+            } catch (final Error e) {
+                // The executor would cancel the checks without notice, report it as the tailer's own thread would
+                remove(tailer);
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+
+        synchronized void schedule(final long delayMillis) {
+            if (tailer.getRun()) {
+                future = executor.scheduleWithFixedDelay(this, 0, delayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private final ThreadLocal<byte[]> buffers;
+    private volatile boolean closed;
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Map<Tailer, Tail> tails = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new group that checks its files on the given number of daemon threads, with buffers of
+     * {@link IOUtils#DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param threads the number of threads.
+     * @throws IllegalArgumentException if {@code threads} is not positive.
+     */
+    public TailerGroup(final int threads) {
+        this(newExecutor(threads), IOUtils.DEFAULT_BUFFER_SIZE, true);
+    }
+
+    /**
+     * Constructs a new group that checks its files with the given executor, with buffers of
+     * {@link IOUtils#DEFAULT_BUFFER_SIZE} bytes.
+     * <p>
+     * Closing the group does not shut down the executor.
+     * </p>
+     *
+     * @param executor the executor to check the files with.
+     */
+    public TailerGroup(final ScheduledExecutorService executor) {
+        this(executor, IOUtils.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a new group that checks its files with the given executor and buffers of the given size.
+     * <p>
+     * Closing the group does not shut down the executor.
+     * </p>
+     *
+     * @param executor the executor to check the files with.
+     * @param bufSize the size of the buffer of each executor thread.
+     * @throws IllegalArgumentException if {@code bufSize} is not positive.
+     */
+    public TailerGroup(final ScheduledExecutorService executor, final int bufSize) {
+        this(executor, bufSize, false);
+    }
+
+    private TailerGroup(final ScheduledExecutorService executor, final int bufSize, final boolean ownsExecutor) {
+        if (bufSize <= 0) {
+            throw new IllegalArgumentException("bufSize must be greater than 0: " + bufSize);
+        }
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.buffers = ThreadLocal.withInitial(() -> IOUtils.byteArray(bufSize));
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    private static ScheduledExecutorService newExecutor(final int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be greater than 0: " + threads);
+        }
+        final AtomicInteger count = new AtomicInteger();
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "TailerGroup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Adds a file to the group, reading it with the default charset.
+     *
+     * @param file the file to follow.
+     * @param listener the TailerListener to use.
+     * @param delayMillis the delay between checks of the file for new content in milliseconds.
+     * @param end Set to true to tail from the end of the file, false to tail from the beginning of the file.
+     * @return the tailer of the file, to {@link #remove(Tailer) remove} it.
+     * @throws IllegalStateException if the group is closed.
+     */
+    public Tailer add(final File file, final TailerListener listener, final long delayMillis, final boolean end) {
+        return add(file, Charset.defaultCharset(), listener, delayMillis, end, false);
+    }
+
+    /**
+     * Adds a file to the group.
+     *
+     * @param file the file to follow.
+     * @param charset the Charset to be used for reading the file
+     * @param listener the TailerListener to use.
+     * @param delayMillis the delay between checks of the file for new content in milliseconds.
+     * @param end Set to true to tail from the end of the file, false to tail from the beginning of the file.
+     * @param reOpen if true, close and reopen the file between checks
+     * @return the tailer of the file, to {@link #remove(Tailer) remove} it.
+     * @throws IllegalStateException if the group is closed.
+     */
+    public Tailer add(final File file, final Charset charset, final TailerListener listener, final long delayMillis,
+        final boolean end, final boolean reOpen) {
+        return add(file, charset, listener, delayMillis, end, reOpen, null, EMPTY_TAILER_OPTION_ARRAY);
+    }
+
+    /**
+     * Adds a file to the group that resumes from the position kept in the given store, with the given options.
+     * <p>
+     * The group checks its files periodically, so {@link StandardTailerOption#WATCH} has no effect.
+     * </p>
+     *
+     * @param file the file to follow.
+     * @param charset the Charset to be used for reading the file
+     * @param listener the TailerListener to use.
+     * @param delayMillis the delay between checks of the file for new content in milliseconds.
+     * @param end Set to true to tail from the end of the file, false to tail from the beginning of the file.
+     * @param reOpen if true, close and reopen the file between checks
+     * @param positionStore where to keep the position of the tailer, may be null, typically shared by the group.
+     * @param options how to follow the file, see {@link StandardTailerOption}.
+     * @return the tailer of the file, to {@link #remove(Tailer) remove} it.
+     * @throws IllegalStateException if the group is closed.
+     * @see Tailer#Tailer(File, Charset, TailerListener, long, boolean, boolean, int, TailerPositionStore,
+     *      TailerOption...)
+     */
+    public Tailer add(final File file, final Charset charset, final TailerListener listener, final long delayMillis,
+        final boolean end, final boolean reOpen, final TailerPositionStore positionStore,
+        final TailerOption... options) {
+        if (closed) {
+            throw new IllegalStateException("TailerGroup is closed");
+        }
+        // The group reads with its own buffers
+        final Tailer tailer = new Tailer(file, charset, listener, delayMillis, end, reOpen, 0, positionStore,
+            options);
+        final Tail tail = new Tail(tailer);
+        tails.put(tailer, tail);
+        tail.schedule(delayMillis);
+        if (closed) {
+            // Closed concurrently, close() may have missed this tailer
+            remove(tailer);
+            throw new IllegalStateException("TailerGroup is closed");
+        }
+        return tailer;
+    }
+
+    /**
+     * Stops and removes all tailers and shuts down the executor if the group created it.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        tails.keySet().forEach(this::remove);
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the lag of each file of the group, that is, the number of bytes between the position up to which lines have
+     * been handled and the current length of the file.
+     *
+     * @return a new map from file to lag in bytes, in no particular order.
+     */
+    public Map<File, Long> getLag() {
+        final Map<File, Long> lag = new LinkedHashMap<>(tails.size());
+        tails.keySet().forEach(tailer -> lag.put(tailer.getFile(), Long.valueOf(getLag(tailer))));
+        return lag;
+    }
+
+    /**
+     * Gets the lag of a file, that is, the number of bytes between the position up to which lines have been handled
+     * and the current length of the file.
+     *
+     * @param tailer a tailer of this group.
+     * @return the lag in bytes, 0 if the file does not exist or was truncated.
+     */
+    public long getLag(final Tailer tailer) {
+        return Math.max(0, tailer.getFile().length() - tailer.getPosition());
+    }
+
+    /**
+     * Stops a tailer and removes it from the group, waiting for a running check to complete.
+     *
+     * @param tailer the tailer to remove.
+     * @return whether the tailer was in the group.
+     */
+    public boolean remove(final Tailer tailer) {
+        final Tail tail = tails.remove(tailer);
+        if (tail == null) {
+            return false;
+        }
+        tail.cancel();
+        return true;
+    }
+
+    /**
+     * Gets the number of tailers in the group.
+     *
+     * @return the number of tailers in the group.
+     */
+    public int size() {
+        return tails.size();
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The position of a {@link Tailer} in a file, with a fingerprint of the file to detect that it was rotated.
+ *
+ * @see TailerPositionStore
+ * @since 2.9.0
+ */
+public final class TailerPosition implements Serializable {
+
+    /**
+     * The fingerprint of a position without one, fingerprints are CRC32 values and never negative.
+     */
+    static final long NO_FINGERPRINT = -1;
+
+    private static final long serialVersionUID = 1L;
+
+    private final String fileKey;
+    private final long fingerprint;
+    private final long lastModified;
+    private final long offset;
+
+    /**
+     * Constructs a new instance without a fingerprint.
+     *
+     * @param offset the offset in the file up to which lines have been handled.
+     * @param lastModified the last modified time of the file in milliseconds when the lines were read.
+     * @param fileKey the {@link java.nio.file.attribute.BasicFileAttributes#fileKey() file key} of the file as a
+     *        String, an inode on POSIX file systems, may be null.
+     */
+    public TailerPosition(final long offset, final long lastModified, final String fileKey) {
+        this(offset, lastModified, NO_FINGERPRINT, fileKey);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param offset the offset in the file up to which lines have been handled.
+     * @param lastModified the last modified time of the file in milliseconds when the lines were read.
+     * @param fingerprint the CRC32 of the start of the file up to the offset, at most 1 KiB, or -1 if unknown.
+     * @param fileKey the {@link java.nio.file.attribute.BasicFileAttributes#fileKey() file key} of the file as a
+     *        String, an inode on POSIX file systems, may be null.
+     */
+    public TailerPosition(final long offset, final long lastModified, final long fingerprint, final String fileKey) {
+        this.offset = offset;
+        this.lastModified = lastModified;
+        this.fingerprint = fingerprint < 0 ? NO_FINGERPRINT : fingerprint;
+        this.fileKey = fileKey;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof TailerPosition)) {
+            return false;
+        }
+        final TailerPosition other = (TailerPosition) obj;
+        return offset == other.offset && lastModified == other.lastModified && fingerprint == other.fingerprint
+            && Objects.equals(fileKey, other.fileKey);
+    }
+
+    /**
+     * Gets the file key of the file as a String.
+     *
+     * @return the file key, may be null.
+     */
+    public String getFileKey() {
+        return fileKey;
+    }
+
+    /**
+     * Gets the CRC32 of the start of the file up to the offset, at most 1 KiB.
+     *
+     * @return the fingerprint, or -1 if unknown.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Gets the last modified time of the file in milliseconds when the lines were read.
+     *
+     * @return the last modified time.
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Gets the offset in the file up to which lines have been handled.
+     *
+     * @return the offset.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fileKey, Long.valueOf(fingerprint), Long.valueOf(lastModified), Long.valueOf(offset));
+    }
+
+    /**
+     * Tests whether this position is in the given file, that is, the file has the same file key, is not shorter than
+     * the offset, was not modified before the position was taken, and starts with the same bytes.
+     *
+     * @param currentFileKey the current file key of the file, may be null.
+     * @param length the current length of the file.
+     * @param currentLastModified the current last modified time of the file in milliseconds.
+     * @param currentFingerprint the current CRC32 of the start of the file up to the offset, at most 1 KiB.
+     * @return whether this position is in the given file.
+     */
+    boolean isIn(final String currentFileKey, final long length, final long currentLastModified,
+        final long currentFingerprint) {
+        return Objects.equals(fileKey, currentFileKey) && offset <= length && currentLastModified >= lastModified
+            && (fingerprint == NO_FINGERPRINT || fingerprint == currentFingerprint);
+    }
+
+    @Override
+    public String toString() {
+        return "TailerPosition [offset=" + offset + ", lastModified=" + lastModified + ", fingerprint=" + fingerprint
+            + ", fileKey=" + fileKey + "]";
+    }
+}
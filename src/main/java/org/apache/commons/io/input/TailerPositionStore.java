@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Keeps the positions of {@link Tailer}s so that they resume where they stopped.
+ * <p>
+ * A tailer with a store gets the position of its file when it opens it and puts its new position after each check
+ * that handled lines, from the tailer thread. A store may keep positions in memory and save them periodically; a
+ * tailer calls {@link #flushIfDue()} after each check that found no change, so that the last position of an idle
+ * tailer is saved too, and flushes its store when it stops. A store shared by several tailers must be thread-safe.
+ * </p>
+ *
+ * @see FileTailerPositionStore
+ * @since 2.9.0
+ */
+public interface TailerPositionStore {
+
+    /**
+     * Saves the positions put so far.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Saves the positions put so far if the store is due to save them, for example when its save interval has elapsed.
+     * <p>
+     * The default implementation calls {@link #flush()}.
+     * </p>
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    default void flushIfDue() throws IOException {
+        flush();
+    }
+
+    /**
+     * Gets the position of a file.
+     *
+     * @param file the tailed file.
+     * @return the position or null if there is none.
+     * @throws IOException if an I/O error occurs.
+     */
+    TailerPosition get(File file) throws IOException;
+
+    /**
+     * Puts the position of a file.
+     *
+     * @param file the tailed file.
+     * @param position the position.
+     * @throws IOException if an I/O error occurs.
+     */
+    void put(File file, TailerPosition position) throws IOException;
+
+}
@@ -0,0 +1,349 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.monitor;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link FileAlterationListener} that debounces and coalesces the events of each file and delivers them to another
+ * listener asynchronously, in batches.
+ * <p>
+ * Events are held per file until the file had no event for the quiet period, so a file written across several checks
+ * is reported once, when the writing stopped. The events of a file are coalesced: a creation followed by changes is
+ * a creation, a change followed by a deletion is a deletion, a creation followed by a deletion is nothing, a deletion
+ * followed by a creation of the same kind is a change.
+ * </p>
+ * <p>
+ * The pending creation of a directory is delivered no later than the first event of a file inside it, so a listener
+ * mirroring the tree always sees a directory created before its contents, even while the directory keeps changing.
+ * </p>
+ * <p>
+ * At the end of each check, the settled events are delivered to the delegate on the executor, between
+ * {@link FileAlterationListener#onStart(FileAlterationObserver)} and
+ * {@link FileAlterationListener#onStop(FileAlterationObserver)}, in the order the files first had an event. At most
+ * one delivery is submitted to the executor at a time. Events settled while a delivery runs are coalesced into the
+ * next delivery, so a slow delegate neither delays the checks nor makes the backlog grow beyond one event per file.
+ * </p>
+ *
+ * @see FileAlterationObserver
+ * @since 2.9.0
+ */
+public class CoalescingFileAlterationListener implements FileAlterationListener {
+
+    /**
+     * The pending event of a file.
+     */
+    private static final class Event {
+
+        private final boolean directory;
+        private final File file;
+        private Kind kind;
+        private long time;
+
+        Event(final File file, final boolean directory, final Kind kind, final long time) {
+            this.file = file;
+            this.directory = directory;
+            this.kind = kind;
+            this.time = time;
+        }
+
+        /**
+         * Returns the key of the event, the path of the file with a trailing separator for a directory, so a file
+         * replaced by a directory, or the reverse, keeps both events.
+         *
+         * @return the key of the event
+         */
+        String key() {
+            return directory ? file.getPath() + File.separatorChar : file.getPath();
+        }
+
+        void deliver(final FileAlterationListener listener) {
+            switch (kind) {
+            case CREATE:
+                if (directory) {
+                    listener.onDirectoryCreate(file);
+                } else {
+                    listener.onFileCreate(file);
+                }
+                break;
+            case CHANGE:
+                if (directory) {
+                    listener.onDirectoryChange(file);
+                } else {
+                    listener.onFileChange(file);
+                }
+                break;
+            default:
+                if (directory) {
+                    listener.onDirectoryDelete(file);
+                } else {
+                    listener.onFileDelete(file);
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * The kinds of events.
+     */
+    private enum Kind {
+        CHANGE, CREATE, DELETE
+    }
+
+    /**
+     * Adds an event to a map of pending events, coalescing it with the pending event of the same file if any.
+     *
+     * @param events the pending events
+     * @param event the event to add
+     */
+    private static void coalesce(final Map<String, Event> events, final Event event) {
+        final String key = event.key();
+        final Event pending = events.get(key);
+        if (pending == null) {
+            events.put(key, event);
+            return;
+        }
+        pending.time = event.time;
+        if (pending.kind == Kind.CREATE && event.kind == Kind.DELETE) {
+            events.remove(key);
+        } else if (pending.kind == Kind.DELETE && event.kind == Kind.CREATE) {
+            pending.kind = Kind.CHANGE;
+        } else if (pending.kind != Kind.CREATE) {
+            pending.kind = event.kind;
+        }
+    }
+
+    private final LongSupplier clock;
+    private final FileAlterationListener delegate;
+    private boolean delivering;
+    private final Executor executor;
+    private FileAlterationObserver observer;
+    private final Map<String, Event> pending = new LinkedHashMap<>();
+    private final long quietNanos;
+    private Map<String, Event> settled = new LinkedHashMap<>();
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param delegate the listener to deliver the events to
+     * @param quietPeriod how long a file must have no event before its event is delivered, zero delivers the events
+     *        at the end of the check that found them
+     * @param executor runs the deliveries
+     * @throws IllegalArgumentException if {@code quietPeriod} is negative
+     */
+    public CoalescingFileAlterationListener(final FileAlterationListener delegate, final Duration quietPeriod,
+        final Executor executor) {
+        this(delegate, quietPeriod, executor, System::nanoTime);
+    }
+
+    /**
+     * Constructs a new instance with the given clock.
+     *
+     * @param delegate the listener to deliver the events to
+     * @param quietPeriod how long a file must have no event before its event is delivered
+     * @param executor runs the deliveries
+     * @param clock returns the current time in nanoseconds
+     */
+    CoalescingFileAlterationListener(final FileAlterationListener delegate, final Duration quietPeriod,
+        final Executor executor, final LongSupplier clock) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.clock = clock;
+        if (quietPeriod.isNegative()) {
+            throw new IllegalArgumentException("quietPeriod must not be negative: " + quietPeriod);
+        }
+        this.quietNanos = quietPeriod.toNanos();
+    }
+
+    /**
+     * Records an event.
+     *
+     * @param file the file
+     * @param directory whether the file is a directory
+     * @param kind the kind of event
+     */
+    private synchronized void add(final File file, final boolean directory, final Kind kind) {
+        coalesce(pending, new Event(file, directory, kind, clock.getAsLong()));
+    }
+
+    /**
+     * Delivers a batch of events to the delegate, then submits the events settled meanwhile if any.
+     *
+     * @param batch the events
+     * @param batchObserver the observer that found the last of the events
+     */
+    private void deliver(final Map<String, Event> batch, final FileAlterationObserver batchObserver) {
+        try {
+            delegate.onStart(batchObserver);
+            for (final Event event : batch.values()) {
+                event.deliver(delegate);
+            }
+            delegate.onStop(batchObserver);
+        } finally {
+            synchronized (this) {
+                delivering = false;
+                submit();
+            }
+        }
+    }
+
+    /**
+     * Delivers all pending events, whether or not their quiet period elapsed, for example before the observer is
+     * stopped.
+     */
+    public synchronized void flush() {
+        for (final Event event : pending.values()) {
+            coalesce(settled, event);
+        }
+        pending.clear();
+        submit();
+    }
+
+    /**
+     * Returns the listener the events are delivered to.
+     *
+     * @return the listener the events are delivered to
+     */
+    public FileAlterationListener getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the number of events waiting to be delivered, not counting a delivery in progress.
+     *
+     * @return the number of events waiting to be delivered
+     */
+    public synchronized int getPendingCount() {
+        return pending.size() + settled.size();
+    }
+
+    @Override
+    public void onDirectoryChange(final File directory) {
+        add(directory, true, Kind.CHANGE);
+    }
+
+    @Override
+    public void onDirectoryCreate(final File directory) {
+        add(directory, true, Kind.CREATE);
+    }
+
+    @Override
+    public void onDirectoryDelete(final File directory) {
+        add(directory, true, Kind.DELETE);
+    }
+
+    @Override
+    public void onFileChange(final File file) {
+        add(file, false, Kind.CHANGE);
+    }
+
+    @Override
+    public void onFileCreate(final File file) {
+        add(file, false, Kind.CREATE);
+    }
+
+    @Override
+    public void onFileDelete(final File file) {
+        add(file, false, Kind.DELETE);
+    }
+
+    @Override
+    public synchronized void onStart(final FileAlterationObserver observer) {
+        this.observer = observer;
+    }
+
+    /**
+     * Submits the events whose quiet period elapsed.
+     *
+     * @param observer The file system observer
+     */
+    @Override
+    public synchronized void onStop(final FileAlterationObserver observer) {
+        this.observer = observer;
+        final long now = clock.getAsLong();
+        final List<Event> quiet = new ArrayList<>();
+        for (final Event event : pending.values()) {
+            if (now - event.time >= quietNanos) {
+                quiet.add(event);
+            }
+        }
+        for (final Event event : quiet) {
+            // not pending anymore if settled as the directory of an earlier event
+            if (pending.remove(event.key()) != null) {
+                settleCreatedParents(event.file);
+                coalesce(settled, event);
+            }
+        }
+        submit();
+    }
+
+    /**
+     * Settles the pending creations of the directories containing a file, outermost first, so the creation of a
+     * directory is not delivered after the events of its contents.
+     *
+     * @param file the file
+     */
+    private void settleCreatedParents(final File file) {
+        final File parent = file.getParentFile();
+        if (parent == null) {
+            return;
+        }
+        final String key = parent.getPath() + File.separatorChar;
+        final Event event = pending.get(key);
+        if (event == null || event.kind != Kind.CREATE) {
+            return;
+        }
+        pending.remove(key);
+        settleCreatedParents(parent);
+        coalesce(settled, event);
+    }
+
+    /**
+     * Submits the settled events to the executor unless a delivery is running.
+     */
+    private void submit() {
+        if (delivering || settled.isEmpty()) {
+            return;
+        }
+        final Map<String, Event> batch = settled;
+        final FileAlterationObserver batchObserver = observer;
+        settled = new LinkedHashMap<>();
+        delivering = true;
+        try {
+            executor.execute(() -> deliver(batch, batchObserver));
+        } catch (final RejectedExecutionException e) {
+            delivering = false;
+            settled = batch;
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[delegate=" + delegate + ", pending=" + getPendingCount() + "]";
+    }
+}
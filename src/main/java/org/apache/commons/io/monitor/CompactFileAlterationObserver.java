@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.monitor;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.commons.io.IOCase;
+
+/**
+ * A {@link FileAlterationObserver} that keeps the state of the observed tree in a compact snapshot.
+ * <p>
+ * Instead of a {@link FileEntry} object, a {@link File} and a name per file, the observer keeps parallel primitive
+ * arrays of the attributes and a table of the distinct names, about 25 bytes per file plus the names. Each check takes
+ * a new snapshot, reading the attributes of each file with a single file system call, compares it with the previous
+ * one and notifies the listeners as a {@link FileAlterationObserver} would.
+ * </p>
+ * <p>
+ * Custom {@link FileEntry} implementations are not supported.
+ * </p>
+ *
+ * @see FileAlterationObserver
+ * @since 2.9.0
+ */
+public class CompactFileAlterationObserver extends FileAlterationObserver {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The snapshot taken by the last check, null before {@link #initialize()}.
+     */
+    private FileTreeSnapshot snapshot;
+
+    /**
+     * Constructs an observer for the specified directory.
+     *
+     * @param directory the directory to observe
+     */
+    public CompactFileAlterationObserver(final File directory) {
+        this(directory, null);
+    }
+
+    /**
+     * Constructs an observer for the specified directory and file filter.
+     *
+     * @param directory the directory to observe
+     * @param fileFilter The file filter or null if none
+     */
+    public CompactFileAlterationObserver(final File directory, final FileFilter fileFilter) {
+        this(directory, fileFilter, null);
+    }
+
+    /**
+     * Constructs an observer for the specified directory, file filter and file comparator.
+     *
+     * @param directory the directory to observe
+     * @param fileFilter The file filter or null if none
+     * @param caseSensitivity what case sensitivity to use comparing file names, null means system sensitive
+     */
+    public CompactFileAlterationObserver(final File directory, final FileFilter fileFilter,
+        final IOCase caseSensitivity) {
+        super(directory, fileFilter, caseSensitivity);
+    }
+
+    /**
+     * Checks whether the file and its children have been created, modified or deleted.
+     */
+    @Override
+    public void checkAndNotify() {
+        for (final FileAlterationListener listener : getListeners()) {
+            listener.onStart(this);
+        }
+        final FileTreeSnapshot current = takeSnapshot();
+        if (snapshot != null) {
+            checkAndNotify(getDirectory(), snapshot, 0, current, 0);
+        } else {
+            for (int i = 1; i < current.size(); i = current.getEnd(i)) {
+                doCreate(new File(getDirectory(), current.getName(i)), current, i);
+            }
+        }
+        snapshot = current;
+        for (final FileAlterationListener listener : getListeners()) {
+            listener.onStop(this);
+        }
+    }
+
+    /**
+     * Compares the children of a directory in two snapshots.
+     *
+     * @param directory The directory
+     * @param previous The previous snapshot
+     * @param p The index of the directory in the previous snapshot
+     * @param current The current snapshot
+     * @param c The index of the directory in the current snapshot
+     */
+    private void checkAndNotify(final File directory, final FileTreeSnapshot previous, final int p,
+        final FileTreeSnapshot current, final int c) {
+        final int previousEnd = previous.getEnd(p);
+        final int currentEnd = current.getEnd(c);
+        int pi = p + 1;
+        int ci = c + 1;
+        File previousFile = pi < previousEnd ? new File(directory, previous.getName(pi)) : null;
+        File currentFile = ci < currentEnd ? new File(directory, current.getName(ci)) : null;
+        while (previousFile != null || currentFile != null) {
+            final int cmp;
+            if (previousFile == null) {
+                cmp = 1;
+            } else if (currentFile == null) {
+                cmp = -1;
+            } else {
+                cmp = getComparator().compare(previousFile, currentFile);
+            }
+            if (cmp <= 0) {
+                if (cmp == 0) {
+                    if (previous.isChanged(pi, current, ci)) {
+                        doChange(currentFile, current.isDirectory(ci));
+                    }
+                    checkAndNotify(currentFile, previous, pi, current, ci);
+                } else {
+                    doDelete(previousFile, previous, pi);
+                }
+                pi = previous.getEnd(pi);
+                previousFile = pi < previousEnd ? new File(directory, previous.getName(pi)) : null;
+            }
+            if (cmp >= 0) {
+                if (cmp > 0) {
+                    doCreate(currentFile, current, ci);
+                }
+                ci = current.getEnd(ci);
+                currentFile = ci < currentEnd ? new File(directory, current.getName(ci)) : null;
+            }
+        }
+    }
+
+    /**
+     * Fires directory/file change events to the registered listeners.
+     *
+     * @param file The file
+     * @param directory Whether the file is a directory
+     */
+    private void doChange(final File file, final boolean directory) {
+        for (final FileAlterationListener listener : getListeners()) {
+            if (directory) {
+                listener.onDirectoryChange(file);
+            } else {
+                listener.onFileChange(file);
+            }
+        }
+    }
+
+    /**
+     * Fires directory/file created events to the registered listeners, for an entry and then its descendants.
+     *
+     * @param file The file
+     * @param snapshot The snapshot holding the entry
+     * @param index The index of the entry
+     */
+    private void doCreate(final File file, final FileTreeSnapshot snapshot, final int index) {
+        for (final FileAlterationListener listener : getListeners()) {
+            if (snapshot.isDirectory(index)) {
+                listener.onDirectoryCreate(file);
+            } else {
+                listener.onFileCreate(file);
+            }
+        }
+        final int end = snapshot.getEnd(index);
+        for (int i = index + 1; i < end; i = snapshot.getEnd(i)) {
+            doCreate(new File(file, snapshot.getName(i)), snapshot, i);
+        }
+    }
+
+    /**
+     * Fires directory/file delete events to the registered listeners, for the descendants of an entry and then the
+     * entry.
+     *
+     * @param file The file
+     * @param snapshot The snapshot holding the entry
+     * @param index The index of the entry
+     */
+    private void doDelete(final File file, final FileTreeSnapshot snapshot, final int index) {
+        final int end = snapshot.getEnd(index);
+        for (int i = index + 1; i < end; i = snapshot.getEnd(i)) {
+            doDelete(new File(file, snapshot.getName(i)), snapshot, i);
+        }
+        for (final FileAlterationListener listener : getListeners()) {
+            if (snapshot.isDirectory(index)) {
+                listener.onDirectoryDelete(file);
+            } else {
+                listener.onFileDelete(file);
+            }
+        }
+    }
+
+    /**
+     * Returns the snapshot taken by the last check.
+     *
+     * @return the snapshot, null before {@link #initialize()}
+     */
+    FileTreeSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Initializes the observer.
+     */
+    @Override
+    public void initialize() {
+        snapshot = takeSnapshot();
+    }
+
+    @Override
+    public void readSnapshot(final InputStream in) throws IOException {
+        snapshot = FileTreeSnapshot.read(in, getDirectory());
+    }
+
+    /**
+     * Takes a snapshot of the observed tree.
+     *
+     * @return a new snapshot
+     */
+    private FileTreeSnapshot takeSnapshot() {
+        return FileTreeSnapshot.of(getDirectory(), this::listFiles);
+    }
+
+    @Override
+    public void writeSnapshot(final OutputStream out) throws IOException {
+        (snapshot != null ? snapshot : FileTreeSnapshot.of(getRootEntry())).write(out, getDirectory());
+    }
+}
@@ -16,21 +16,111 @@
  */
 package org.apache.commons.io.monitor;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A runnable that spawns a monitoring thread triggering any
  * registered {@link FileAlterationObserver} at a specified interval.
+ * <p>
+ * Many monitors can share the threads of a {@link ScheduledExecutorService} instead, see
+ * {@link #setScheduledExecutorService(ScheduledExecutorService)}. A random delay of up to the jitter is added before
+ * each check to spread the checks of monitors started together, see {@link #setJitter(long)}.
+ * </p>
  *
  * @see FileAlterationObserver
  * @since 2.0
  */
 public final class FileAlterationMonitor implements Runnable {
 
+    /**
+     * The durations of the checks of an observer.
+     *
+     * @since 2.9.0
+     */
+    public static final class Statistics {
+
+        private long count;
+        private long lastNanos;
+        private long maxNanos;
+        private long totalNanos;
+
+        /**
+         * Records the duration of a check.
+         *
+         * @param nanos the duration in nanoseconds
+         */
+        synchronized void add(final long nanos) {
+            count++;
+            lastNanos = nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            totalNanos += nanos;
+        }
+
+        /**
+         * Returns the number of checks.
+         *
+         * @return the number of checks
+         */
+        public synchronized long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the duration of the last check.
+         *
+         * @return the duration of the last check, zero before the first check
+         */
+        public synchronized Duration getLastDuration() {
+            return Duration.ofNanos(lastNanos);
+        }
+
+        /**
+         * Returns the duration of the longest check.
+         *
+         * @return the duration of the longest check, zero before the first check
+         */
+        public synchronized Duration getMaxDuration() {
+            return Duration.ofNanos(maxNanos);
+        }
+
+        /**
+         * Returns the total duration of the checks.
+         *
+         * @return the total duration of the checks
+         */
+        public synchronized Duration getTotalDuration() {
+            return Duration.ofNanos(totalNanos);
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "Statistics [count=" + count + ", last=" + Duration.ofNanos(lastNanos) + ", max="
+                + Duration.ofNanos(maxNanos) + ", total=" + Duration.ofNanos(totalNanos) + "]";
+        }
+    }
+
+    private final ReentrantLock checking = new ReentrantLock();
+    private ScheduledFuture<?> future;
+
+    /**
+     * Incremented by each start and stop, so a check scheduled before does not schedule the next one.
+     */
+    private volatile long generation;
     private final long interval;
+    private volatile long jitter;
     private final List<FileAlterationObserver> observers = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService scheduledExecutorService;
+    private final Map<FileAlterationObserver, Statistics> statistics = new ConcurrentHashMap<>();
     private Thread thread;
     private ThreadFactory threadFactory;
     private volatile boolean running;
@@ -77,6 +167,53 @@ public long getInterval() {
         return interval;
     }
 
+    /**
+     * Returns the jitter.
+     *
+     * @return the maximum random delay added before each check, in milliseconds
+     * @since 2.9.0
+     */
+    public long getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Sets the jitter, the maximum random delay added before each check, including the first, zero by default.
+     * <p>
+     * Monitors started together with the same interval check their observers at the same time; a jitter as large as
+     * the interval spreads their checks over the interval.
+     * </p>
+     *
+     * @param jitter the maximum random delay added before each check, in milliseconds
+     * @throws IllegalArgumentException if {@code jitter} is negative
+     * @since 2.9.0
+     */
+    public void setJitter(final long jitter) {
+        if (jitter < 0) {
+            throw new IllegalArgumentException("jitter must not be negative: " + jitter);
+        }
+        this.jitter = jitter;
+    }
+
+    /**
+     * Sets the executor service to check the observers with instead of a thread of this monitor, null by default.
+     * <p>
+     * The executor service can be shared by many monitors, each check of a monitor runs as a task scheduled once the
+     * previous one completed. Stopping the monitor does not shut the executor service down.
+     * </p>
+     * <p>
+     * A {@link RuntimeException} thrown by an observer or a listener during a check is not reported: it completes the
+     * check's task, whose future is discarded, and the next check is scheduled as usual. Listeners should handle their
+     * own exceptions.
+     * </p>
+     *
+     * @param scheduledExecutorService the executor service or null to use a thread of this monitor
+     * @since 2.9.0
+     */
+    public synchronized void setScheduledExecutorService(final ScheduledExecutorService scheduledExecutorService) {
+        this.scheduledExecutorService = scheduledExecutorService;
+    }
+
     /**
      * Sets the thread factory.
      *
@@ -94,6 +231,7 @@ public synchronized void setThreadFactory(final ThreadFactory threadFactory) {
     public void addObserver(final FileAlterationObserver observer) {
         if (observer != null) {
             observers.add(observer);
+            statistics.putIfAbsent(observer, new Statistics());
         }
     }
 
@@ -107,6 +245,7 @@ public void removeObserver(final FileAlterationObserver observer) {
             while (observers.remove(observer)) {
                 // empty
             }
+            statistics.remove(observer);
         }
     }
 
@@ -120,6 +259,17 @@ public Iterable<FileAlterationObserver> getObservers() {
         return observers;
     }
 
+    /**
+     * Returns the durations of the checks of an observer.
+     *
+     * @param observer an observer of this monitor
+     * @return the durations of the checks of the observer or null if the observer is not registered with this monitor
+     * @since 2.9.0
+     */
+    public Statistics getStatistics(final FileAlterationObserver observer) {
+        return observer != null ? statistics.get(observer) : null;
+    }
+
     /**
      * Starts monitoring.
      *
@@ -133,6 +283,13 @@ public synchronized void start() throws Exception {
             observer.initialize();
         }
         running = true;
+        generation++;
+        if (scheduledExecutorService != null) {
+            final long started = generation;
+            future = scheduledExecutorService.schedule(() -> runScheduled(started), nextJitter(),
+                TimeUnit.MILLISECONDS);
+            return;
+        }
         if (threadFactory != null) {
             thread = threadFactory.newThread(this);
         } else {
@@ -153,8 +310,9 @@ public synchronized void stop() throws Exception {
     /**
      * Stops monitoring.
      *
-     * @param stopInterval the amount of time in milliseconds to wait for the thread to finish.
-     * A value of zero will wait until the thread is finished (see {@link Thread#join(long)}).
+     * @param stopInterval the amount of time in milliseconds to wait for the thread, or the running check when using
+     * an executor service, to finish. A value of zero will wait until the thread is finished (see
+     * {@link Thread#join(long)}).
      * @throws Exception if an error occurs initializing the observer
      * @since 2.1
      */
@@ -163,9 +321,22 @@ public synchronized void stop(final long stopInterval) throws Exception {
             throw new IllegalStateException("Monitor is not running");
         }
         running = false;
+        generation++;
         try {
-            thread.interrupt();
-            thread.join(stopInterval);
+            if (future != null) {
+                future.cancel(false);
+                future = null;
+                // wait for a running check
+                if (stopInterval == 0) {
+                    checking.lockInterruptibly();
+                    checking.unlock();
+                } else if (checking.tryLock(stopInterval, TimeUnit.MILLISECONDS)) {
+                    checking.unlock();
+                }
+            } else {
+                thread.interrupt();
+                thread.join(stopInterval);
+            }
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -179,18 +350,91 @@ public synchronized void stop(final long stopInterval) throws Exception {
      */
     @Override
     public void run() {
+        sleep(nextJitter());
         while (running) {
-            for (final FileAlterationObserver observer : observers) {
-                observer.checkAndNotify();
-            }
+            checkAndNotify();
             if (!running) {
                 break;
             }
+            sleep(interval + nextJitter());
+        }
+    }
+
+    /**
+     * Checks the observers, recording the duration of each check.
+     */
+    private void checkAndNotify() {
+        for (final FileAlterationObserver observer : observers) {
+            final long start = System.nanoTime();
             try {
-                Thread.sleep(interval);
-            } catch (final InterruptedException ignored) {
-                // ignore
+                observer.checkAndNotify();
+            } finally {
+                final Statistics observerStatistics = statistics.get(observer);
+                if (observerStatistics != null) {
+                    observerStatistics.add(System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests whether the monitor is still running since the given start.
+     *
+     * @param started the generation of a start
+     * @return whether the monitor is running and was not restarted since
+     */
+    private boolean isGeneration(final long started) {
+        return running && generation == started;
+    }
+
+    /**
+     * Returns a random delay of up to the jitter.
+     *
+     * @return a random delay of up to the jitter, in milliseconds
+     */
+    private long nextJitter() {
+        // not synchronized: stop(0) joins the monitor thread while holding the lock
+        final long maxJitter = jitter;
+        return maxJitter > 0 ? ThreadLocalRandom.current().nextLong(maxJitter + 1) : 0;
+    }
+
+    /**
+     * Checks the observers on the executor service and schedules the next check, even if the check threw an exception,
+     * which is then left in the discarded future of this task.
+     *
+     * @param started the generation of the start that scheduled the checks
+     */
+    private void runScheduled(final long started) {
+        checking.lock();
+        try {
+            if (isGeneration(started)) {
+                checkAndNotify();
+            }
+        } finally {
+            checking.unlock();
+            synchronized (this) {
+                // a check that outlived stop() must not add a second chain after a new start()
+                if (generation == started && future != null) {
+                    future = scheduledExecutorService.schedule(() -> runScheduled(started), interval + nextJitter(),
+                        TimeUnit.MILLISECONDS);
+                }
             }
         }
     }
+
+    /**
+     * Sleeps, returning early if interrupted.
+     *
+     * @param millis the time to sleep in milliseconds
+     */
+    private static void sleep(final long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ignored) {
+            // ignore
+        }
+    }
 }
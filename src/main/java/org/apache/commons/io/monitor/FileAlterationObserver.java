@@ -18,11 +18,18 @@
 
 import java.io.File;
 import java.io.FileFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOCase;
@@ -121,11 +128,116 @@
  */
 public class FileAlterationObserver implements Serializable {
 
+    /**
+     * Creates the entry of a new file and of its descendants, listing sibling directories in parallel.
+     */
+    private final class CreateAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private FileEntry entry;
+        private final File file;
+        private final FileEntry parent;
+
+        CreateAction(final FileEntry parent, final File file) {
+            this.parent = parent;
+            this.file = file;
+        }
+
+        @Override
+        protected void compute() {
+            entry = parent.newChildInstance(file);
+            entry.refresh(file);
+            entry.setChildren(createAll(entry, listFiles(file)));
+        }
+    }
+
+    /**
+     * Compares the previous and current files of a directory, refreshing the matching entries and creating the new
+     * ones, sibling subtrees in parallel. Listeners are notified later, by {@link #notifyListeners(DirectoryScan)}.
+     */
+    private final class DirectoryScan extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /** The checks of the entries in notification order. */
+        private final List<EntryCheck> checks = new ArrayList<>();
+        private FileEntry[] current;
+        private final File[] files;
+        private final FileEntry parent;
+        private final FileEntry[] previous;
+
+        DirectoryScan(final FileEntry parent, final FileEntry[] previous, final File[] files) {
+            this.parent = parent;
+            this.previous = previous;
+            this.files = files;
+        }
+
+        @Override
+        protected void compute() {
+            int c = 0;
+            current = files.length > 0 ? new FileEntry[files.length] : FileEntry.EMPTY_FILE_ENTRY_ARRAY;
+            for (final FileEntry entry : previous) {
+                while (c < files.length && comparator.compare(entry.getFile(), files[c]) > 0) {
+                    checks.add(new EntryCheck(this, c, null, files[c]));
+                    c++;
+                }
+                if (c < files.length && comparator.compare(entry.getFile(), files[c]) == 0) {
+                    checks.add(new EntryCheck(this, c, entry, files[c]));
+                    current[c] = entry;
+                    c++;
+                } else {
+                    checks.add(new EntryCheck(this, -1, entry, null));
+                }
+            }
+            for (; c < files.length; c++) {
+                checks.add(new EntryCheck(this, c, null, files[c]));
+            }
+            invokeAll(checks);
+        }
+    }
+
+    /**
+     * The check of one entry of a directory: a creation, a match or a deletion.
+     */
+    private final class EntryCheck extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private boolean changed;
+        private DirectoryScan children;
+        private final DirectoryScan directory;
+        private final FileEntry entry;
+        private final File file;
+        private final int index;
+
+        EntryCheck(final DirectoryScan directory, final int index, final FileEntry entry, final File file) {
+            this.directory = directory;
+            this.index = index;
+            this.entry = entry;
+            this.file = file;
+        }
+
+        @Override
+        protected void compute() {
+            if (entry == null) {
+                final CreateAction create = new CreateAction(directory.parent, file);
+                create.compute();
+                directory.current[index] = create.entry;
+            } else if (file != null) {
+                changed = entry.refresh(file);
+                children = new DirectoryScan(entry, entry.getChildren(), listFiles(file));
+                children.compute();
+            }
+        }
+    }
+
     private static final long serialVersionUID = 1185122225658782848L;
     private final List<FileAlterationListener> listeners = new CopyOnWriteArrayList<>();
     private final FileEntry rootEntry;
     private final FileFilter fileFilter;
     private final Comparator<File> comparator;
+    private final transient ForkJoinPool pool;
 
     /**
      * Constructs an observer for the specified directory.
@@ -190,6 +302,26 @@ public FileAlterationObserver(final File directory, final FileFilter fileFilter,
         this(new FileEntry(directory), fileFilter, caseSensitivity);
     }
 
+    /**
+     * Constructs an observer for the specified directory, file filter and file comparator that scans sibling
+     * subtrees in parallel.
+     * <p>
+     * {@link #initialize()} and {@link #checkAndNotify()} list directories and refresh entries on the given pool,
+     * then {@link #checkAndNotify()} notifies the listeners on the calling thread, in the same order as a sequential
+     * scan. The pool is not serialized, a deserialized observer scans sequentially.
+     * </p>
+     *
+     * @param directory the directory to observe
+     * @param fileFilter The file filter or null if none
+     * @param caseSensitivity  what case sensitivity to use comparing file names, null means system sensitive
+     * @param pool the pool to scan with, null to scan sequentially
+     * @since 2.9.0
+     */
+    public FileAlterationObserver(final File directory, final FileFilter fileFilter, final IOCase caseSensitivity,
+        final ForkJoinPool pool) {
+        this(new FileEntry(directory), fileFilter, caseSensitivity, pool);
+    }
+
     /**
      * Constructs an observer for the specified directory, file filter and
      * file comparator.
@@ -200,6 +332,22 @@ public FileAlterationObserver(final File directory, final FileFilter fileFilter,
      */
     protected FileAlterationObserver(final FileEntry rootEntry, final FileFilter fileFilter,
                                      final IOCase caseSensitivity) {
+        this(rootEntry, fileFilter, caseSensitivity, null);
+    }
+
+    /**
+     * Constructs an observer for the specified directory, file filter and
+     * file comparator that scans sibling subtrees in parallel.
+     *
+     * @param rootEntry the root directory to observe
+     * @param fileFilter The file filter or null if none
+     * @param caseSensitivity  what case sensitivity to use comparing file names, null means system sensitive
+     * @param pool the pool to scan with, null to scan sequentially
+     * @see #FileAlterationObserver(File, FileFilter, IOCase, ForkJoinPool)
+     * @since 2.9.0
+     */
+    protected FileAlterationObserver(final FileEntry rootEntry, final FileFilter fileFilter,
+                                     final IOCase caseSensitivity, final ForkJoinPool pool) {
         if (rootEntry == null) {
             throw new IllegalArgumentException("Root entry is missing");
         }
@@ -215,6 +363,7 @@ protected FileAlterationObserver(final FileEntry rootEntry, final FileFilter fil
         } else {
             this.comparator = NameFileComparator.NAME_COMPARATOR;
         }
+        this.pool = pool;
     }
 
     /**
@@ -226,6 +375,24 @@ public File getDirectory() {
         return rootEntry.getFile();
     }
 
+    /**
+     * Returns the entry of the directory being observed.
+     *
+     * @return the root entry
+     */
+    FileEntry getRootEntry() {
+        return rootEntry;
+    }
+
+    /**
+     * Returns the comparator of file names.
+     *
+     * @return the comparator of file names
+     */
+    Comparator<File> getComparator() {
+        return comparator;
+    }
+
     /**
      * Returns the fileFilter.
      *
@@ -277,10 +444,50 @@ public Iterable<FileAlterationListener> getListeners() {
     @SuppressWarnings("unused") // Possibly thrown from subclasses.
     public void initialize() throws Exception {
         rootEntry.refresh(rootEntry.getFile());
-        final FileEntry[] children = doListFiles(rootEntry.getFile(), rootEntry);
+        final FileEntry[] children;
+        if (pool != null) {
+            final File[] files = listFiles(rootEntry.getFile());
+            children = pool.invoke(ForkJoinTask.adapt(() -> createAll(rootEntry, files)));
+        } else {
+            children = doListFiles(rootEntry.getFile(), rootEntry);
+        }
         rootEntry.setChildren(children);
     }
 
+    /**
+     * Initializes the observer from a snapshot written by {@link #writeSnapshot(OutputStream)}, instead of
+     * {@link #initialize()}, so the next check reports the changes made since the snapshot was written.
+     * <p>
+     * The snapshot must have been written by an observer of the same directory, with the same file filter and case
+     * sensitivity. Only the attributes of {@link FileEntry} are saved, the attributes of custom entries are not.
+     * </p>
+     *
+     * @param in the stream to read the snapshot from, not closed
+     * @throws IOException if an I/O error occurs, the stream does not hold a snapshot or the snapshot is of another
+     *         directory
+     * @since 2.9.0
+     */
+    public void readSnapshot(final InputStream in) throws IOException {
+        final FileTreeSnapshot snapshot = FileTreeSnapshot.read(in, getDirectory());
+        snapshot.copyTo(0, rootEntry);
+        rootEntry.setChildren(snapshot.newChildren(0, rootEntry));
+    }
+
+    /**
+     * Writes a compact binary snapshot of the state of the observed tree, to initialize an observer with
+     * {@link #readSnapshot(InputStream)} later, for example after a restart.
+     * <p>
+     * Do not call this method while the observer is checking.
+     * </p>
+     *
+     * @param out the stream to write the snapshot to, flushed but not closed
+     * @throws IOException if an I/O error occurs
+     * @since 2.9.0
+     */
+    public void writeSnapshot(final OutputStream out) throws IOException {
+        FileTreeSnapshot.of(rootEntry).write(out, getDirectory());
+    }
+
     /**
      * Final processing.
      *
@@ -304,9 +511,9 @@ public void checkAndNotify() {
         /* fire directory/file events */
         final File rootFile = rootEntry.getFile();
         if (rootFile.exists()) {
-            checkAndNotify(rootEntry, rootEntry.getChildren(), listFiles(rootFile));
+            checkAndNotifyAll(listFiles(rootFile));
         } else if (rootEntry.isExists()) {
-            checkAndNotify(rootEntry, rootEntry.getChildren(), FileUtils.EMPTY_FILE_ARRAY);
+            checkAndNotifyAll(FileUtils.EMPTY_FILE_ARRAY);
         } else {
             // Didn't exist and still doesn't
         }
@@ -317,14 +524,48 @@ public void checkAndNotify() {
         }
     }
 
+    /**
+     * Checks whether the files of the root directory and their descendants have been created, modified or deleted.
+     *
+     * @param files The current files of the root directory
+     */
+    private void checkAndNotifyAll(final File[] files) {
+        if (pool != null) {
+            final DirectoryScan scan = new DirectoryScan(rootEntry, rootEntry.getChildren(), files);
+            pool.invoke(scan);
+            notifyListeners(scan);
+        } else {
+            checkAndNotify(rootEntry, rootEntry.getChildren(), files, true);
+        }
+    }
+
+    /**
+     * Checks whether the files of a directory have been created, modified or deleted.
+     * <p>
+     * Listeners are also notified of a change of the directory itself, unless it is the root directory.
+     * </p>
+     *
+     * @param directory The directory entry
+     * @param recursive Whether to check the contents of its subdirectories that still exist
+     */
+    void checkAndNotifyDirectory(final FileEntry directory, final boolean recursive) {
+        final File file = directory.getFile();
+        if (directory != rootEntry) {
+            doMatch(directory, file);
+        }
+        checkAndNotify(directory, directory.getChildren(), listFiles(file), recursive);
+    }
+
     /**
      * Compares two file lists for files which have been created, modified or deleted.
      *
      * @param parent The parent entry
      * @param previous The original list of files
      * @param files  The current list of files
+     * @param recursive Whether to compare the contents of matching directories
      */
-    private void checkAndNotify(final FileEntry parent, final FileEntry[] previous, final File[] files) {
+    private void checkAndNotify(final FileEntry parent, final FileEntry[] previous, final File[] files,
+        final boolean recursive) {
         int c = 0;
         final FileEntry[] current = files.length > 0 ? new FileEntry[files.length] : FileEntry.EMPTY_FILE_ENTRY_ARRAY;
         for (final FileEntry entry : previous) {
@@ -335,11 +576,13 @@ private void checkAndNotify(final FileEntry parent, final FileEntry[] previous,
             }
             if (c < files.length && comparator.compare(entry.getFile(), files[c]) == 0) {
                 doMatch(entry, files[c]);
-                checkAndNotify(entry, entry.getChildren(), listFiles(files[c]));
+                if (recursive) {
+                    checkAndNotify(entry, entry.getChildren(), listFiles(files[c]), true);
+                }
                 current[c] = entry;
                 c++;
             } else {
-                checkAndNotify(entry, entry.getChildren(), FileUtils.EMPTY_FILE_ARRAY);
+                checkAndNotify(entry, entry.getChildren(), FileUtils.EMPTY_FILE_ARRAY, true);
                 doDelete(entry);
             }
         }
@@ -350,6 +593,29 @@ private void checkAndNotify(final FileEntry parent, final FileEntry[] previous,
         parent.setChildren(current);
     }
 
+    /**
+     * Creates the entries of the given files and of their descendants, in parallel.
+     *
+     * @param parent The parent file entry
+     * @param files The files to create entries for
+     * @return the new entries
+     */
+    private FileEntry[] createAll(final FileEntry parent, final File[] files) {
+        if (files.length == 0) {
+            return FileEntry.EMPTY_FILE_ENTRY_ARRAY;
+        }
+        final List<CreateAction> actions = new ArrayList<>(files.length);
+        for (final File file : files) {
+            actions.add(new CreateAction(parent, file));
+        }
+        ForkJoinTask.invokeAll(actions);
+        final FileEntry[] children = new FileEntry[files.length];
+        for (int i = 0; i < children.length; i++) {
+            children[i] = actions.get(i).entry;
+        }
+        return children;
+    }
+
     /**
      * Creates a new file entry for the specified file.
      *
@@ -393,12 +659,22 @@ private void doCreate(final FileEntry entry) {
                 listener.onFileCreate(entry.getFile());
             }
         }
+        entryCreated(entry);
         final FileEntry[] children = entry.getChildren();
         for (final FileEntry aChildren : children) {
             doCreate(aChildren);
         }
     }
 
+    /**
+     * Called after listeners are notified of the creation of a file or directory.
+     *
+     * @param entry The file entry
+     */
+    void entryCreated(final FileEntry entry) {
+        // noop
+    }
+
     /**
      * Fires directory/file change events to the registered listeners.
      *
@@ -407,12 +683,22 @@ private void doCreate(final FileEntry entry) {
      */
     private void doMatch(final FileEntry entry, final File file) {
         if (entry.refresh(file)) {
-            for (final FileAlterationListener listener : listeners) {
-                if (entry.isDirectory()) {
-                    listener.onDirectoryChange(file);
-                } else {
-                    listener.onFileChange(file);
-                }
+            doChange(entry, file);
+        }
+    }
+
+    /**
+     * Fires directory/file change events to the registered listeners.
+     *
+     * @param entry The refreshed file system entry
+     * @param file The current file
+     */
+    private void doChange(final FileEntry entry, final File file) {
+        for (final FileAlterationListener listener : listeners) {
+            if (entry.isDirectory()) {
+                listener.onDirectoryChange(file);
+            } else {
+                listener.onFileChange(file);
             }
         }
     }
@@ -439,7 +725,7 @@ private void doDelete(final FileEntry entry) {
      * @return the directory contents or a zero length array if
      * the empty or the file is not a directory
      */
-    private File[] listFiles(final File file) {
+    File[] listFiles(final File file) {
         File[] children = null;
         if (file.isDirectory()) {
             children = fileFilter == null ? file.listFiles() : file.listFiles(fileFilter);
@@ -453,6 +739,28 @@ private File[] listFiles(final File file) {
         return children;
     }
 
+    /**
+     * Notifies the listeners of the changes found by a parallel scan, in the order of a sequential scan.
+     *
+     * @param scan The scan of a directory
+     */
+    private void notifyListeners(final DirectoryScan scan) {
+        for (final EntryCheck check : scan.checks) {
+            if (check.entry == null) {
+                doCreate(scan.current[check.index]);
+            } else if (check.file != null) {
+                if (check.changed) {
+                    doChange(check.entry, check.file);
+                }
+                notifyListeners(check.children);
+            } else {
+                checkAndNotify(check.entry, check.entry.getChildren(), FileUtils.EMPTY_FILE_ARRAY, true);
+                doDelete(check.entry);
+            }
+        }
+        scan.parent.setChildren(scan.current);
+    }
+
     /**
      * Returns a String representation of this observer.
      *
@@ -20,6 +20,8 @@
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.attribute.BasicFileAttributes;
 
 import org.apache.commons.io.FileUtils;
 
@@ -41,6 +43,10 @@
  * {@link #newChildInstance(File)} to return a new instance of the appropriate type.
  * You may also want to override the {@link #refresh(File)} method.
  * </p>
+ * <p>
+ * The attributes are read with a single call to {@link Files#readAttributes(java.nio.file.Path, Class,
+ * java.nio.file.LinkOption...)}.
+ * </p>
  * @see FileAlterationObserver
  * @since 2.0
  */
@@ -83,6 +89,20 @@ public FileEntry(final FileEntry parent, final File file) {
         this.name = file.getName();
     }
 
+    /**
+     * Reads the attributes of a file with a single file system call.
+     *
+     * @param file the file
+     * @return the attributes or null if the file does not exist or cannot be read
+     */
+    static BasicFileAttributes readAttributes(final File file) {
+        try {
+            return Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+        } catch (final IOException | InvalidPathException e) {
+            return null;
+        }
+    }
+
     /**
      * Refresh the attributes from the {@link File}, indicating
      * whether the file has changed.
@@ -106,14 +126,11 @@ public boolean refresh(final File file) {
 
         // refresh the values
         name = file.getName();
-        exists = Files.exists(file.toPath());
-        directory = exists && file.isDirectory();
-        try {
-            lastModified = exists ? FileUtils.lastModified(file) : 0;
-        } catch (final IOException e) {
-            lastModified = 0;
-        }
-        length = exists && !directory ? file.length() : 0;
+        final BasicFileAttributes attributes = readAttributes(file);
+        exists = attributes != null;
+        directory = exists && attributes.isDirectory();
+        lastModified = exists ? attributes.lastModifiedTime().toMillis() : 0;
+        length = exists && !directory ? attributes.size() : 0;
 
         // Return if there are changes
         return exists != origExists || lastModified != origLastModified || directory != origDirectory
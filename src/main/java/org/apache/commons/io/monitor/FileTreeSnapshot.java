@@ -0,0 +1,419 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.monitor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.commons.io.input.BoundedInputStream;
+
+/**
+ * The state of a file tree at a point in time, held in parallel primitive arrays instead of a tree of
+ * {@link FileEntry} objects.
+ * <p>
+ * Entries are stored in depth-first order, the root at index 0 and the children of a directory following it in the
+ * order they were listed. Each entry records the index past its last descendant, the index of its name in a table
+ * shared by entries of the same name, its flags, last modified time and length, about 25 bytes per entry. Files are
+ * not stored, they are resolved from the names while walking the tree.
+ * </p>
+ *
+ * @see CompactFileAlterationObserver
+ */
+final class FileTreeSnapshot implements Serializable {
+
+    /**
+     * Builds a snapshot, growing the arrays as entries are added.
+     */
+    private static final class Builder {
+
+        private int[] ends = new int[INITIAL_CAPACITY];
+        private byte[] flags = new byte[INITIAL_CAPACITY];
+        private long[] lastModified = new long[INITIAL_CAPACITY];
+        private long[] lengths = new long[INITIAL_CAPACITY];
+        private final Function<File, File[]> lister;
+        private final Map<String, Integer> nameIndexes = new HashMap<>();
+        private int[] names = new int[INITIAL_CAPACITY];
+        private int size;
+
+        Builder(final Function<File, File[]> lister) {
+            this.lister = lister;
+        }
+
+        /**
+         * Adds a file and its descendants.
+         *
+         * @param file the file
+         */
+        void add(final File file) {
+            final int index = next(file.getName());
+            final BasicFileAttributes attributes = FileEntry.readAttributes(file);
+            if (attributes != null) {
+                if (attributes.isDirectory()) {
+                    flags[index] = EXISTS | DIRECTORY;
+                    for (final File child : lister.apply(file)) {
+                        add(child);
+                    }
+                } else {
+                    flags[index] = EXISTS;
+                    lengths[index] = attributes.size();
+                }
+                lastModified[index] = attributes.lastModifiedTime().toMillis();
+            }
+            ends[index] = size;
+        }
+
+        /**
+         * Adds an entry and its descendants.
+         *
+         * @param entry the entry
+         */
+        void add(final FileEntry entry) {
+            final int index = next(entry.getName());
+            if (entry.isExists()) {
+                flags[index] = entry.isDirectory() ? EXISTS | DIRECTORY : EXISTS;
+            }
+            lastModified[index] = entry.getLastModified();
+            lengths[index] = entry.getLength();
+            for (final FileEntry child : entry.getChildren()) {
+                add(child);
+            }
+            ends[index] = size;
+        }
+
+        /**
+         * Allocates the next entry.
+         *
+         * @param name the name of the entry
+         * @return the index of the entry
+         */
+        private int next(final String name) {
+            if (size == ends.length) {
+                final int capacity = size * 2;
+                ends = Arrays.copyOf(ends, capacity);
+                flags = Arrays.copyOf(flags, capacity);
+                lastModified = Arrays.copyOf(lastModified, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                names = Arrays.copyOf(names, capacity);
+            }
+            names[size] = nameIndexes.computeIfAbsent(name, k -> Integer.valueOf(nameIndexes.size())).intValue();
+            return size++;
+        }
+
+        FileTreeSnapshot build() {
+            final String[] nameTable = new String[nameIndexes.size()];
+            nameIndexes.forEach((name, index) -> nameTable[index.intValue()] = name);
+            return new FileTreeSnapshot(Arrays.copyOf(ends, size), Arrays.copyOf(flags, size),
+                Arrays.copyOf(lastModified, size), Arrays.copyOf(lengths, size), Arrays.copyOf(names, size),
+                nameTable);
+        }
+    }
+
+    private static final byte DIRECTORY = 2;
+
+    /**
+     * The number of bytes of an entry in the binary format.
+     */
+    private static final int ENTRY_BYTES = Integer.BYTES + Byte.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES;
+    private static final byte EXISTS = 1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The first four bytes of the binary format, "FTSN".
+     */
+    private static final int MAGIC = 0x4654534E;
+    private static final long serialVersionUID = 1L;
+    private static final int VERSION = 1;
+
+    /**
+     * Takes a snapshot of a tree of entries.
+     *
+     * @param root the root entry
+     * @return a new snapshot
+     */
+    static FileTreeSnapshot of(final FileEntry root) {
+        final Builder builder = new Builder(null);
+        builder.add(root);
+        return builder.build();
+    }
+
+    /**
+     * Takes a snapshot of a file tree.
+     *
+     * @param root the root of the tree
+     * @param lister lists the children of a directory to include, in order
+     * @return a new snapshot
+     */
+    static FileTreeSnapshot of(final File root, final Function<File, File[]> lister) {
+        final Builder builder = new Builder(lister);
+        builder.add(root);
+        return builder.build();
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write(OutputStream, File)}.
+     * <p>
+     * Reads the snapshot and nothing more from the stream.
+     * </p>
+     *
+     * @param in the stream to read
+     * @param directory the root directory of the tree, which must be the one the snapshot was written for
+     * @return the snapshot
+     * @throws IOException if an I/O error occurs, the stream does not hold a snapshot or the snapshot is of another
+     *         directory
+     */
+    static FileTreeSnapshot read(final InputStream in, final File directory) throws IOException {
+        final DataInputStream header = new DataInputStream(in);
+        if (header.readInt() != MAGIC) {
+            throw new IOException("Not a file tree snapshot");
+        }
+        final int version = header.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported file tree snapshot version: " + version);
+        }
+        final long length = header.readLong();
+        final DataInputStream data = new DataInputStream(new BufferedInputStream(new BoundedInputStream(in, length)));
+        final String path = data.readUTF();
+        if (!path.equals(directory.getPath())) {
+            throw new IOException("Snapshot of '" + path + "' does not match '" + directory.getPath() + "'");
+        }
+        final int nameCount = data.readInt();
+        if (nameCount < 0 || nameCount > length) {
+            throw new IOException("Corrupt file tree snapshot, name count: " + nameCount);
+        }
+        final String[] nameTable = new String[nameCount];
+        for (int i = 0; i < nameCount; i++) {
+            nameTable[i] = data.readUTF();
+        }
+        final int size = data.readInt();
+        if (size <= 0 || (long) size * ENTRY_BYTES > length) {
+            throw new IOException("Corrupt file tree snapshot, size: " + size);
+        }
+        final int[] ends = new int[size];
+        final byte[] flags = new byte[size];
+        final long[] lastModified = new long[size];
+        final long[] lengths = new long[size];
+        final int[] names = new int[size];
+        for (int i = 0; i < size; i++) {
+            ends[i] = data.readInt();
+            flags[i] = data.readByte();
+            lastModified[i] = data.readLong();
+            lengths[i] = data.readLong();
+            names[i] = data.readInt();
+            if (ends[i] <= i || ends[i] > size || i == 0 && ends[i] != size || names[i] < 0 || names[i] >= nameCount) {
+                throw new IOException("Corrupt file tree snapshot, entry: " + i);
+            }
+        }
+        return new FileTreeSnapshot(ends, flags, lastModified, lengths, names, nameTable);
+    }
+
+    private final int[] ends;
+    private final byte[] flags;
+    private final long[] lastModified;
+    private final long[] lengths;
+    private final String[] nameTable;
+    private final int[] names;
+
+    private FileTreeSnapshot(final int[] ends, final byte[] flags, final long[] lastModified, final long[] lengths,
+        final int[] names, final String[] nameTable) {
+        this.ends = ends;
+        this.flags = flags;
+        this.lastModified = lastModified;
+        this.lengths = lengths;
+        this.names = names;
+        this.nameTable = nameTable;
+    }
+
+    /**
+     * Copies the attributes of an entry to a {@link FileEntry}.
+     *
+     * @param index the entry index
+     * @param entry the entry to update
+     */
+    void copyTo(final int index, final FileEntry entry) {
+        entry.setExists(isExists(index));
+        entry.setDirectory(isDirectory(index));
+        entry.setLastModified(lastModified[index]);
+        entry.setLength(lengths[index]);
+    }
+
+    /**
+     * Returns the index past the last descendant of an entry, which is the index of its next sibling if any.
+     *
+     * @param index the entry index
+     * @return the index past the last descendant
+     */
+    int getEnd(final int index) {
+        return ends[index];
+    }
+
+    /**
+     * Returns the last modified time of an entry.
+     *
+     * @param index the entry index
+     * @return the last modified time, 0 if the file did not exist
+     */
+    long getLastModified(final int index) {
+        return lastModified[index];
+    }
+
+    /**
+     * Returns the length of an entry.
+     *
+     * @param index the entry index
+     * @return the length, 0 for directories and files that did not exist
+     */
+    long getLength(final int index) {
+        return lengths[index];
+    }
+
+    /**
+     * Returns the name of an entry.
+     *
+     * @param index the entry index
+     * @return the name
+     */
+    String getName(final int index) {
+        return nameTable[names[index]];
+    }
+
+    /**
+     * Returns the number of distinct names.
+     *
+     * @return the number of distinct names
+     */
+    int getNameCount() {
+        return nameTable.length;
+    }
+
+    /**
+     * Tests whether an entry differs from an entry of another snapshot, comparing the attributes compared by
+     * {@link FileEntry#refresh(File)}.
+     *
+     * @param index the entry index
+     * @param other the other snapshot
+     * @param otherIndex the entry index in the other snapshot
+     * @return whether the entries differ
+     */
+    boolean isChanged(final int index, final FileTreeSnapshot other, final int otherIndex) {
+        return flags[index] != other.flags[otherIndex] || lastModified[index] != other.lastModified[otherIndex]
+            || lengths[index] != other.lengths[otherIndex];
+    }
+
+    /**
+     * Tests whether an entry is a directory.
+     *
+     * @param index the entry index
+     * @return whether the entry is a directory
+     */
+    boolean isDirectory(final int index) {
+        return (flags[index] & DIRECTORY) != 0;
+    }
+
+    /**
+     * Tests whether an entry existed.
+     *
+     * @param index the entry index
+     * @return whether the entry existed
+     */
+    boolean isExists(final int index) {
+        return (flags[index] & EXISTS) != 0;
+    }
+
+    /**
+     * Creates the {@link FileEntry} children of an entry and their descendants.
+     *
+     * @param index the entry index
+     * @param entry the entry to create the children of, with {@link FileEntry#newChildInstance(File)}
+     * @return the children
+     */
+    FileEntry[] newChildren(final int index, final FileEntry entry) {
+        int count = 0;
+        for (int i = index + 1; i < ends[index]; i = ends[i]) {
+            count++;
+        }
+        if (count == 0) {
+            return FileEntry.EMPTY_FILE_ENTRY_ARRAY;
+        }
+        final FileEntry[] children = new FileEntry[count];
+        int c = 0;
+        for (int i = index + 1; i < ends[index]; i = ends[i]) {
+            final FileEntry child = entry.newChildInstance(new File(entry.getFile(), getName(i)));
+            copyTo(i, child);
+            child.setChildren(newChildren(i, child));
+            children[c++] = child;
+        }
+        return children;
+    }
+
+    /**
+     * Returns the number of entries, including the root.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        return ends.length;
+    }
+
+    /**
+     * Writes this snapshot in a compact binary format.
+     * <p>
+     * The format starts with a header holding a magic number, a version and the length of the rest, then the path of
+     * the root directory, the name table and the entries.
+     * </p>
+     *
+     * @param out the stream to write to, flushed but not closed
+     * @param directory the root directory of the tree
+     * @throws IOException if an I/O error occurs
+     */
+    void write(final OutputStream out, final File directory) throws IOException {
+        final ByteArrayOutputStream nameBytes = new ByteArrayOutputStream();
+        try (DataOutputStream nameData = new DataOutputStream(nameBytes)) {
+            nameData.writeUTF(directory.getPath());
+            nameData.writeInt(nameTable.length);
+            for (final String name : nameTable) {
+                nameData.writeUTF(name);
+            }
+        }
+        final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeLong(nameBytes.size() + Integer.BYTES + (long) size() * ENTRY_BYTES);
+        nameBytes.writeTo(data);
+        data.writeInt(size());
+        for (int i = 0; i < size(); i++) {
+            data.writeInt(ends[i]);
+            data.writeByte(flags[i]);
+            data.writeLong(lastModified[i]);
+            data.writeLong(lengths[i]);
+            data.writeInt(names[i]);
+        }
+        data.flush();
+    }
+}
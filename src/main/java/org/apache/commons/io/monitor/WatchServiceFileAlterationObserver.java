@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.monitor;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.io.IOCase;
+
+/**
+ * A {@link FileAlterationObserver} that rescans only the directories reported by a {@link WatchService}.
+ * <p>
+ * After {@link #initialize()}, every observed directory is registered with a watch service and
+ * {@link #checkAndNotify()} takes the pending events without waiting. It then compares only the directories that had
+ * events with their previous state and notifies the listeners as a {@link FileAlterationObserver} would. Checking an
+ * idle tree costs nothing, whatever its size, and the observer can be used with a {@link FileAlterationMonitor} as
+ * usual.
+ * </p>
+ * <p>
+ * The observer falls back to full scans when it cannot watch the tree: while the root directory does not exist,
+ * when the file system does not support watch services, when a directory cannot be registered, for example because
+ * the system ran out of watches, and for the check following lost events. The first check after
+ * {@link #initialize()} is also a full scan, to report the changes made while the directories were being registered.
+ * </p>
+ * <p>
+ * Watch services of some platforms poll the file system themselves, in which case changes are reported after the
+ * watch service's own delay.
+ * </p>
+ *
+ * @see FileAlterationObserver
+ * @since 2.9.0
+ */
+public class WatchServiceFileAlterationObserver extends FileAlterationObserver {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The directories to check in addition to the ones with events, the directories registered during the last check.
+     */
+    private transient Set<Path> pending = new TreeSet<>();
+
+    /**
+     * Whether the next check must scan the whole tree.
+     */
+    private transient boolean fullScan = true;
+
+    /**
+     * The directories registered with the watch service.
+     */
+    private transient Map<Path, WatchKey> registered = new HashMap<>();
+
+    /**
+     * The watch service, null when not watching.
+     */
+    private transient WatchService watchService;
+
+    /**
+     * Constructs an observer for the specified directory.
+     *
+     * @param directory the directory to observe
+     */
+    public WatchServiceFileAlterationObserver(final File directory) {
+        this(directory, null);
+    }
+
+    /**
+     * Constructs an observer for the specified directory and file filter.
+     *
+     * @param directory the directory to observe
+     * @param fileFilter The file filter or null if none
+     */
+    public WatchServiceFileAlterationObserver(final File directory, final FileFilter fileFilter) {
+        this(directory, fileFilter, null);
+    }
+
+    /**
+     * Constructs an observer for the specified directory, file filter and file comparator.
+     *
+     * @param directory the directory to observe
+     * @param fileFilter The file filter or null if none
+     * @param caseSensitivity what case sensitivity to use comparing file names, null means system sensitive
+     */
+    public WatchServiceFileAlterationObserver(final File directory, final FileFilter fileFilter,
+        final IOCase caseSensitivity) {
+        super(directory, fileFilter, caseSensitivity);
+    }
+
+    /**
+     * Checks whether the files in the directories with events have been created, modified or deleted.
+     */
+    @Override
+    public void checkAndNotify() {
+        if (watchService == null || fullScan) {
+            super.checkAndNotify();
+            fullScan = false;
+            watch();
+            return;
+        }
+        final Set<Path> invalidated = new TreeSet<>();
+        final Set<Path> directories = pollEvents(invalidated);
+        if (fullScan) {
+            super.checkAndNotify();
+            fullScan = false;
+            watch();
+            return;
+        }
+        for (final FileAlterationListener listener : getListeners()) {
+            listener.onStart(this);
+        }
+        for (final Path directory : directories) {
+            // a directory deleted by the check of its parent is not found
+            final FileEntry entry = findDirectory(directory);
+            if (entry != null) {
+                checkAndNotifyDirectory(entry, false);
+            }
+        }
+        for (final Path directory : invalidated) {
+            // deleted and created again between checks, its previous contents are gone
+            final FileEntry entry = findDirectory(directory);
+            if (entry != null && watchService != null) {
+                checkAndNotifyDirectory(entry, true);
+                watch(entry);
+                pending.add(directory);
+            }
+        }
+        for (final FileAlterationListener listener : getListeners()) {
+            listener.onStop(this);
+        }
+    }
+
+    private void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (final IOException ignored) {
+                // ignore
+            }
+            watchService = null;
+        }
+        registered.clear();
+        pending.clear();
+    }
+
+    /**
+     * Closes the watch service.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Override
+    public void destroy() throws Exception {
+        close();
+        super.destroy();
+    }
+
+    @Override
+    void entryCreated(final FileEntry entry) {
+        if (watchService != null && entry.isDirectory()) {
+            final Path directory = entry.getFile().toPath();
+            register(directory);
+            // files may have been created before the directory was registered
+            pending.add(directory);
+        }
+    }
+
+    /**
+     * Finds the entry of a directory in the tree.
+     *
+     * @param directory the directory.
+     * @return the entry or null if the tree does not contain the directory.
+     */
+    private FileEntry findDirectory(final Path directory) {
+        FileEntry entry = getRootEntry();
+        final Path relative = entry.getFile().toPath().relativize(directory);
+        if (relative.toString().isEmpty()) {
+            return entry;
+        }
+        for (final Path name : relative) {
+            final String nameString = name.toString();
+            FileEntry found = null;
+            for (final FileEntry child : entry.getChildren()) {
+                if (child.isDirectory() && child.getName().equals(nameString)) {
+                    found = child;
+                    break;
+                }
+            }
+            if (found == null) {
+                return null;
+            }
+            entry = found;
+        }
+        return entry;
+    }
+
+    /**
+     * Initializes the observer and registers the observed directories with a watch service.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Override
+    public void initialize() throws Exception {
+        super.initialize();
+        fullScan = true;
+        watch();
+    }
+
+    /**
+     * Takes the pending events.
+     *
+     * @param invalidated collects the directories that are no longer registered.
+     * @return the directories to check, in order.
+     */
+    private Set<Path> pollEvents(final Set<Path> invalidated) {
+        final Set<Path> directories = pending;
+        pending = new TreeSet<>();
+        try {
+            WatchKey key;
+            while ((key = watchService.poll()) != null) {
+                final Path directory = (Path) key.watchable();
+                if (registered.get(directory) != key) {
+                    // a key left from a directory moved within the tree, its events name the old path
+                    key.pollEvents();
+                    key.cancel();
+                    fullScan = true;
+                    continue;
+                }
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        fullScan = true;
+                    }
+                }
+                directories.add(directory);
+                if (!key.reset()) {
+                    // deleted, its parent has an event
+                    registered.remove(directory, key);
+                    invalidated.add(directory);
+                    if (directory.equals(getDirectory().toPath())) {
+                        fullScan = true;
+                    }
+                }
+            }
+        } catch (final ClosedWatchServiceException e) {
+            fullScan = true;
+        }
+        return directories;
+    }
+
+    private void readObject(final java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        pending = new TreeSet<>();
+        registered = new HashMap<>();
+        fullScan = true;
+    }
+
+    /**
+     * Registers a directory with the watch service, falling back to full scans if it cannot be registered.
+     *
+     * @param directory the directory.
+     */
+    private void register(final Path directory) {
+        final WatchKey key = registered.get(directory);
+        if (key != null && key.isValid()) {
+            return;
+        }
+        try {
+            WatchKey newKey = register(directory, watchService);
+            final Path watchable = (Path) newKey.watchable();
+            if (!directory.equals(watchable)) {
+                // moved within the tree: the watch service returned the key that still names the old path
+                registered.remove(watchable, newKey);
+                newKey.cancel();
+                newKey = register(directory, watchService);
+            }
+            registered.put(directory, newKey);
+        } catch (final IOException | UnsupportedOperationException | ClosedWatchServiceException e) {
+            // For example, the system is out of watches
+            close();
+        }
+    }
+
+    private static WatchKey register(final Path directory, final WatchService watchService) throws IOException {
+        return directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    /**
+     * Registers the directories of the tree that are not registered yet, opening the watch service if needed.
+     */
+    private void watch() {
+        if (!getDirectory().isDirectory()) {
+            close();
+            return;
+        }
+        if (watchService == null) {
+            try {
+                watchService = getDirectory().toPath().getFileSystem().newWatchService();
+            } catch (final IOException | UnsupportedOperationException e) {
+                return;
+            }
+        }
+        watch(getRootEntry());
+        pending.clear();
+    }
+
+    private void watch(final FileEntry directory) {
+        register(directory.getFile().toPath());
+        for (final FileEntry child : directory.getChildren()) {
+            if (watchService == null) {
+                return;
+            }
+            if (child.isDirectory()) {
+                watch(child);
+            }
+        }
+    }
+
+}
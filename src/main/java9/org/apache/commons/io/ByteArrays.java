@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+import java.util.Arrays;
+
+/**
+ * Compares byte arrays for {@link IOUtils}, Java 9 and above.
+ */
+final class ByteArrays {
+
+    /**
+     * Compares the same range of two byte arrays with the vectorized {@link Arrays#equals(byte[], int, int, byte[],
+     * int, int)}.
+     *
+     * @param array1 the first array.
+     * @param array2 the second array.
+     * @param fromIndex the index of the first byte to compare, inclusive.
+     * @param toIndex the index of the last byte to compare, exclusive.
+     * @return whether the ranges are equal.
+     */
+    static boolean rangeEquals(final byte[] array1, final byte[] array2, final int fromIndex, final int toIndex) {
+        return Arrays.equals(array1, fromIndex, toIndex, array2, fromIndex, toIndex);
+    }
+
+    private ByteArrays() {
+        // no instances
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.apache.commons.io.output.StringBuilderWriter;
+import org.apache.commons.io.test.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link BufferPools} and {@link IOUtils#setBufferPool(BufferPool)}.
+ */
+public class BufferPoolsTest {
+
+    @AfterEach
+    public void resetBufferPool() {
+        IOUtils.setBufferPool(null);
+    }
+
+    @Test
+    public void testDirectByteBuffers() {
+        for (final BufferPool pool : new BufferPool[] {BufferPools.threadLocal(), BufferPools.striped(4)}) {
+            final ByteBuffer buffer = pool.getDirectByteBuffer(IOUtils.DEFAULT_BUFFER_SIZE);
+            assertTrue(buffer.isDirect());
+            buffer.put((byte) 1);
+            pool.release(buffer);
+            // heap buffers and other sizes are not pooled
+            pool.release(ByteBuffer.allocate(IOUtils.DEFAULT_BUFFER_SIZE));
+            pool.release(ByteBuffer.allocateDirect(16));
+            final ByteBuffer again = pool.getDirectByteBuffer(IOUtils.DEFAULT_BUFFER_SIZE);
+            assertSame(buffer, again);
+            assertEquals(0, again.position());
+            assertEquals(again.capacity(), again.limit());
+            assertTrue(pool.getDirectByteBuffer(IOUtils.DEFAULT_BUFFER_SIZE).isDirect());
+            assertEquals(1, pool.getHitCount());
+            assertEquals(2, pool.getMissCount());
+        }
+        final BufferPool noop = BufferPools.noop();
+        final ByteBuffer buffer = noop.getDirectByteBuffer(IOUtils.DEFAULT_BUFFER_SIZE);
+        noop.release(buffer);
+        assertNotSame(buffer, noop.getDirectByteBuffer(IOUtils.DEFAULT_BUFFER_SIZE));
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> BufferPools.threadLocal(0));
+        assertThrows(IllegalArgumentException.class, () -> BufferPools.striped(0));
+        assertThrows(IllegalArgumentException.class, () -> BufferPools.striped(4, -1));
+    }
+
+    @Test
+    public void testIOUtilsChannelsUsePool() throws Exception {
+        final BufferPool pool = BufferPools.threadLocal();
+        IOUtils.setBufferPool(pool);
+        final byte[] data = TestUtils.generateTestData(IOUtils.DEFAULT_BUFFER_SIZE * 3 + 1);
+        for (int i = 0; i < 2; i++) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(data.length, IOUtils.copy(Channels.newChannel(new ByteArrayInputStream(data)),
+                Channels.newChannel(out)));
+            assertArrayEquals(data, out.toByteArray());
+            assertTrue(IOUtils.contentEquals(Channels.newChannel(new ByteArrayInputStream(data)),
+                Channels.newChannel(new ByteArrayInputStream(data))));
+        }
+        // only the first round allocates: the copy's direct buffer is reused by the first comparison
+        assertEquals(2, pool.getMissCount());
+        assertEquals(1 + 3, pool.getHitCount());
+    }
+
+    @Test
+    public void testIOUtilsUsesPool() throws Exception {
+        final BufferPool pool = BufferPools.threadLocal();
+        IOUtils.setBufferPool(pool);
+        assertSame(pool, IOUtils.getBufferPool());
+        final byte[] data = TestUtils.generateTestData(IOUtils.DEFAULT_BUFFER_SIZE * 3 + 1);
+        for (int i = 0; i < 3; i++) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            IOUtils.copy(new ByteArrayInputStream(data), out);
+            assertArrayEquals(data, out.toByteArray());
+            assertTrue(IOUtils.contentEquals(new ByteArrayInputStream(data), new ByteArrayInputStream(data)));
+            assertTrue(IOUtils.contentEquals(new StringReader("abc"), new StringReader("abc")));
+            final StringBuilderWriter writer = new StringBuilderWriter();
+            IOUtils.copyLarge(new StringReader("abc"), writer);
+            assertEquals("abc", writer.toString());
+        }
+        // only the first round allocates: 2 byte arrays and 2 char arrays for the two contentEquals calls
+        assertEquals(4, pool.getMissCount());
+        assertEquals(2 + 6 + 6, pool.getHitCount());
+    }
+
+    @Test
+    public void testNoop() {
+        final BufferPool pool = BufferPools.noop();
+        final byte[] bytes = pool.getByteArray(IOUtils.DEFAULT_BUFFER_SIZE);
+        pool.release(bytes);
+        assertNotSame(bytes, pool.getByteArray(IOUtils.DEFAULT_BUFFER_SIZE));
+        assertEquals(0, pool.getHitCount());
+        assertEquals(2, pool.getMissCount());
+    }
+
+    @Test
+    public void testResetDefault() {
+        IOUtils.setBufferPool(BufferPools.threadLocal());
+        IOUtils.setBufferPool(null);
+        final BufferPool pool = IOUtils.getBufferPool();
+        final byte[] bytes = pool.getByteArray(IOUtils.DEFAULT_BUFFER_SIZE);
+        pool.release(bytes);
+        assertNotSame(bytes, pool.getByteArray(IOUtils.DEFAULT_BUFFER_SIZE));
+    }
+
+    @Test
+    public void testStriped() {
+        final BufferPool pool = BufferPools.striped(4);
+        final byte[] bytes = pool.getByteArray(IOUtils.DEFAULT_BUFFER_SIZE);
+        final char[] chars = pool.getCharArray(IOUtils.DEFAULT_BUFFER_SIZE);
+        pool.release(bytes);
+        pool.release(chars);
+        assertSame(bytes, pool.getByteArray(IOUtils.DEFAULT_BUFFER_SIZE));
+        assertSame(chars, pool.getCharArray(IOUtils.DEFAULT_BUFFER_SIZE));
+        assertEquals(2, pool.getHitCount());
+        assertEquals(2, pool.getMissCount());
+    }
+
+    @Test
+    public void testStripedConcurrent() throws Exception {
+        final BufferPool pool = BufferPools.striped(2, 16);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final byte value = (byte) t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        final byte[] bytes = pool.getByteArray(16);
+                        bytes[0] = value;
+                        Thread.yield();
+                        if (bytes[0] != value) {
+                            // another thread got the same array
+                            return Boolean.FALSE;
+                        }
+                        pool.release(bytes);
+                    }
+                    return Boolean.TRUE;
+                }));
+            }
+            for (final Future<Boolean> future : futures) {
+                assertTrue(future.get().booleanValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(40_000, pool.getHitCount() + pool.getMissCount());
+    }
+
+    @Test
+    public void testThreadLocal() throws Exception {
+        final BufferPool pool = BufferPools.threadLocal(16);
+        final byte[] bytes1 = pool.getByteArray(16);
+        final byte[] bytes2 = pool.getByteArray(16);
+        pool.release(bytes1);
+        pool.release(bytes2);
+        // other sizes are not pooled
+        pool.release(new byte[17]);
+        assertEquals(17, pool.getByteArray(17).length);
+        final byte[] again1 = pool.getByteArray(16);
+        final byte[] again2 = pool.getByteArray(16);
+        assertTrue(again1 == bytes1 && again2 == bytes2 || again1 == bytes2 && again2 == bytes1);
+        pool.release(again1);
+        // other threads do not see this thread's arrays
+        final AtomicReference<byte[]> other = new AtomicReference<>();
+        final Thread thread = new Thread(() -> other.set(pool.getByteArray(16)));
+        thread.start();
+        thread.join();
+        assertNotSame(again1, other.get());
+        assertEquals(2, pool.getHitCount());
+        assertEquals(4, pool.getMissCount());
+    }
+}
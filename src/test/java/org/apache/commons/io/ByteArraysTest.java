@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ByteArrays}, and the Java 9 version when run against the multi-release JAR.
+ */
+public class ByteArraysTest {
+
+    /**
+     * Set when the tests run against the multi-release JAR, see the java17+ profile.
+     */
+    private static final boolean MULTI_RELEASE = Boolean.getBoolean("commons.io.test.multiRelease");
+
+    @Test
+    public void testRangeEquals() {
+        final byte[] array1 = new byte[100];
+        final byte[] array2 = new byte[100];
+        for (int i = 0; i < array1.length; i++) {
+            array1[i] = (byte) i;
+            array2[i] = (byte) i;
+        }
+        array2[0] = -1;
+        array2[99] = -1;
+        assertTrue(ByteArrays.rangeEquals(array1, array2, 1, 99));
+        assertTrue(ByteArrays.rangeEquals(array1, array2, 50, 50));
+        assertFalse(ByteArrays.rangeEquals(array1, array2, 0, 99));
+        assertFalse(ByteArrays.rangeEquals(array1, array2, 1, 100));
+        array2[42] = -1;
+        assertFalse(ByteArrays.rangeEquals(array1, array2, 1, 99));
+    }
+
+    @Test
+    public void testVersion() {
+        assertTrue(!MULTI_RELEASE || ByteArrays.class.getResource("ByteArrays.class").toString()
+            .contains("/META-INF/versions/"), "versioned class");
+    }
+}
@@ -58,9 +58,11 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
+import org.apache.commons.io.file.Counters.PathCounters;
 import org.apache.commons.io.file.PathUtils;
 import org.apache.commons.io.file.PathUtilsIsEmptyTest;
 import org.apache.commons.io.filefilter.IOFileFilter;
@@ -572,6 +574,25 @@ public void testCompareSizeOf() {
         assertEquals(sizeLong1, sizeBig.longValue(), "longSize should equal BigSize");
     }
 
+    @Test
+    public void testContentEqualsParallel() throws Exception {
+        final byte[] data = TestUtils.generateTestData(1024 * 1024 + 3);
+        final File file1 = new File(temporaryFolder, getName());
+        final File file2 = new File(temporaryFolder, getName() + "2");
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        assertThrows(NullPointerException.class, () -> FileUtils.contentEquals(file1, file2, null));
+        // both don't exist
+        assertTrue(FileUtils.contentEquals(file1, file2, pool));
+        FileUtils.writeByteArrayToFile(file1, data);
+        FileUtils.writeByteArrayToFile(file2, data);
+        assertTrue(FileUtils.contentEquals(file1, file2, pool));
+        assertTrue(FileUtils.contentEquals(file1, file1, pool));
+        data[data.length / 2]++;
+        FileUtils.writeByteArrayToFile(file2, data);
+        assertFalse(FileUtils.contentEquals(file1, file2, pool));
+        assertThrows(IllegalArgumentException.class, () -> FileUtils.contentEquals(temporaryFolder, temporaryFolder, pool));
+    }
+
     @Test
     public void testContentEquals() throws Exception {
         // Non-existent files
@@ -743,6 +764,84 @@ public void testCopyDirectoryFiltered() throws Exception {
         assertEquals("file3.txt", files.get(2).getName());
     }
 
+    @Test
+    public void testCopyDirectoryParallel() throws Exception {
+        final File grandParentDir = new File(temporaryFolder, "grandparent");
+        final File parentDir = new File(grandParentDir, "parent");
+        final File childDir = new File(parentDir, "child");
+        createFilesForTestCopyDirectory(grandParentDir, parentDir, childDir);
+        final File destDir = new File(temporaryFolder, "copydest");
+
+        final PathCounters pathCounters = FileUtils.copyDirectory(grandParentDir, destDir, null, false, 3);
+        assertEquals(6, pathCounters.getFileCounter().get());
+        assertEquals(FileUtils.sizeOfDirectory(grandParentDir), pathCounters.getByteCounter().get());
+        assertEquals(LIST_WALKER.list(grandParentDir).size(), LIST_WALKER.list(destDir).size());
+        assertEquals("File 6 in grandChild2",
+            FileUtils.readFileToString(new File(destDir, "parent/child2/grandChild2/file6.txt"), "UTF8"));
+
+        FileUtils.deleteDirectory(destDir);
+        final NameFileFilter filter = new NameFileFilter(new String[]{"parent", "child", "file3.txt"});
+        FileUtils.copyDirectory(grandParentDir, destDir, filter, false, 3);
+        final List<File> files = LIST_WALKER.list(destDir);
+        assertEquals(3, files.size());
+        assertEquals("parent", files.get(0).getName());
+        assertEquals("child", files.get(1).getName());
+        assertEquals("file3.txt", files.get(2).getName());
+
+        assertThrows(IllegalArgumentException.class, () -> FileUtils.copyDirectory(grandParentDir, destDir, null, false, 0));
+    }
+
+    @Test
+    public void testCopyDirectoryParallelFailures() throws Exception {
+        final File grandParentDir = new File(temporaryFolder, "grandparent");
+        final File parentDir = new File(grandParentDir, "parent");
+        final File childDir = new File(parentDir, "child");
+        createFilesForTestCopyDirectory(grandParentDir, parentDir, childDir);
+        final File destDir = new File(temporaryFolder, "copydest");
+        FileUtils.copyDirectory(grandParentDir, destDir, null, false, 2);
+
+        // without REPLACE_EXISTING every file copy fails and all failures are reported
+        final IOExceptionList e = assertThrows(IOExceptionList.class,
+            () -> FileUtils.copyDirectory(grandParentDir, destDir, null, false, 2, PathUtils.EMPTY_COPY_OPTIONS));
+        assertEquals(6, e.getCauseList().size());
+    }
+
+    @Test
+    public void testCopyDirectoryParallelPreserveDates() throws Exception {
+        final File source = new File(temporaryFolder, "source");
+        final File sourceDirectory = new File(source, "directory");
+        final File sourceFile = new File(sourceDirectory, "hello.txt");
+        sourceDirectory.mkdirs();
+        FileUtils.writeStringToFile(sourceFile, "HELLO WORLD", "UTF8");
+        assertTrue(setLastModifiedMillis(sourceFile, DATE3));
+        assertTrue(setLastModifiedMillis(sourceDirectory, DATE2));
+        assertTrue(setLastModifiedMillis(source, DATE1));
+
+        final File target = new File(temporaryFolder, "target");
+        final File targetDirectory = new File(target, "directory");
+        final File targetFile = new File(targetDirectory, "hello.txt");
+        FileUtils.copyDirectory(source, target, null, true, 2, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(DATE1, getLastModifiedMillis(target));
+        assertEquals(DATE2, getLastModifiedMillis(targetDirectory));
+        assertEquals(DATE3, getLastModifiedMillis(targetFile));
+    }
+
+    @Test
+    public void testCopyDirectoryParallelToChild() throws Exception {
+        final File grandParentDir = new File(temporaryFolder, "grandparent");
+        final File parentDir = new File(grandParentDir, "parent");
+        final File childDir = new File(parentDir, "child");
+        createFilesForTestCopyDirectory(grandParentDir, parentDir, childDir);
+
+        final long expectedCount = LIST_WALKER.list(grandParentDir).size() +
+                LIST_WALKER.list(parentDir).size();
+        final long expectedSize = FileUtils.sizeOfDirectory(grandParentDir) +
+                FileUtils.sizeOfDirectory(parentDir);
+        FileUtils.copyDirectory(parentDir, childDir, null, false, 2, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(expectedCount, LIST_WALKER.list(grandParentDir).size());
+        assertEquals(expectedSize, FileUtils.sizeOfDirectory(grandParentDir));
+    }
+
     @Test
     public void testCopyDirectoryPreserveDates() throws Exception {
         final File source = new File(temporaryFolder, "source");
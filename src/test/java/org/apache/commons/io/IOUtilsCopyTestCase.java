@@ -21,14 +21,24 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.io.input.NullInputStream;
 import org.apache.commons.io.input.NullReader;
@@ -39,6 +49,7 @@
 import org.apache.commons.io.test.ThrowOnCloseInputStream;
 import org.apache.commons.io.test.ThrowOnFlushAndCloseOutputStream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * JUnit tests for IOUtils copy methods.
@@ -59,6 +70,9 @@ public class IOUtilsCopyTestCase {
 
     private final byte[] inData = TestUtils.generateTestData(FILE_SIZE);
 
+    @TempDir
+    public File temporaryFolder;
+
     //-----------------------------------------------------------------------
     @SuppressWarnings("resource") // 'in' is deliberately not closed
     @Test
@@ -96,6 +110,115 @@ public void testCopy_inputStreamToOutputStream_IO84() throws Exception {
         assertEquals(size, IOUtils.copyLarge(in, out), "copyLarge()");
     }
 
+    @Test
+    public void testCopy_fileInputStreamToFileOutputStream() throws Exception {
+        final File source = new File(temporaryFolder, "source.bin");
+        final File target = new File(temporaryFolder, "target.bin");
+        FileUtils.writeByteArrayToFile(source, inData);
+        try (FileInputStream in = new FileInputStream(source); FileOutputStream out = new FileOutputStream(target)) {
+            // partially consumed input continues from its current position
+            assertEquals(inData[0], (byte) in.read());
+            assertEquals(inData.length - 1, IOUtils.copy(in, out));
+            assertEquals(-1, in.read());
+        }
+        assertTrue(Arrays.equals(Arrays.copyOfRange(inData, 1, inData.length), FileUtils.readFileToByteArray(target)),
+            "Content differs");
+    }
+
+    @Test
+    public void testCopy_fileInputStreamToFileOutputStreamSubclass() throws Exception {
+        final File source = new File(temporaryFolder, "source.bin");
+        final File target = new File(temporaryFolder, "target.bin");
+        FileUtils.writeByteArrayToFile(source, inData);
+        final AtomicLong written = new AtomicLong();
+        try (FileInputStream in = new FileInputStream(source); FileOutputStream out = new FileOutputStream(target) {
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                written.addAndGet(len);
+                super.write(b, off, len);
+            }
+        }) {
+            assertEquals(inData.length, IOUtils.copy(in, out));
+            // a subclass may override write, so the channel is not used
+            assertEquals(inData.length, written.get());
+        }
+        assertTrue(Arrays.equals(inData, FileUtils.readFileToByteArray(target)), "Content differs");
+    }
+
+    @Test
+    public void testCopy_fileInputStreamToFileOutputStreamAppend() throws Exception {
+        final File source = new File(temporaryFolder, "source.bin");
+        final File target = new File(temporaryFolder, "target.bin");
+        FileUtils.writeByteArrayToFile(source, inData);
+        FileUtils.writeByteArrayToFile(target, inData);
+        try (FileInputStream in = new FileInputStream(source); FileOutputStream out = new FileOutputStream(target, true)) {
+            assertEquals(inData.length, IOUtils.copyLarge(in, out));
+        }
+        final byte[] expected = new byte[inData.length * 2];
+        System.arraycopy(inData, 0, expected, 0, inData.length);
+        System.arraycopy(inData, 0, expected, inData.length, inData.length);
+        assertTrue(Arrays.equals(expected, FileUtils.readFileToByteArray(target)), "Content differs");
+    }
+
+    @Test
+    public void testCopyLarge_fileInputStreamToFileOutputStreamWithOffsetAndLength() throws Exception {
+        final File source = new File(temporaryFolder, "source.bin");
+        final File target = new File(temporaryFolder, "target.bin");
+        FileUtils.writeByteArrayToFile(source, inData);
+        try (FileInputStream in = new FileInputStream(source); FileOutputStream out = new FileOutputStream(target)) {
+            assertEquals(100, IOUtils.copyLarge(in, out, 10, 100));
+            // the input is positioned right after the copied range
+            assertEquals(inData[110], (byte) in.read());
+        }
+        assertTrue(Arrays.equals(Arrays.copyOfRange(inData, 10, 110), FileUtils.readFileToByteArray(target)),
+            "Content differs");
+    }
+
+    @Test
+    public void testCopyLarge_fileInputStreamToFileOutputStreamLengthPastEnd() throws Exception {
+        final File source = new File(temporaryFolder, "source.bin");
+        final File target = new File(temporaryFolder, "target.bin");
+        FileUtils.writeByteArrayToFile(source, inData);
+        try (FileInputStream in = new FileInputStream(source); FileOutputStream out = new FileOutputStream(target)) {
+            assertEquals(inData.length - 1, IOUtils.copyLarge(in, out, 1, inData.length));
+        }
+        assertTrue(Arrays.equals(Arrays.copyOfRange(inData, 1, inData.length), FileUtils.readFileToByteArray(target)),
+            "Content differs");
+    }
+
+    @Test
+    public void testCopy_readableByteChannelToWritableByteChannel() throws Exception {
+        final ByteArrayOutputStream baout = new ByteArrayOutputStream();
+        try (ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(inData));
+            WritableByteChannel out = Channels.newChannel(baout)) {
+            // a buffer smaller than the input and not aligned with it
+            assertEquals(inData.length, IOUtils.copy(in, out, ByteBuffer.allocateDirect(1000)));
+        }
+        assertTrue(Arrays.equals(inData, baout.toByteArray()), "Content differs");
+    }
+
+    @Test
+    public void testCopy_fileChannelToWritableByteChannel() throws Exception {
+        final File source = new File(temporaryFolder, "source.bin");
+        FileUtils.writeByteArrayToFile(source, inData);
+        final ByteArrayOutputStream baout = new ByteArrayOutputStream();
+        try (FileChannel in = FileChannel.open(source.toPath()); WritableByteChannel out = Channels.newChannel(baout)) {
+            // partially consumed input continues from its current position
+            in.position(1);
+            assertEquals(inData.length - 1, IOUtils.copy(in, out));
+            assertEquals(inData.length, in.position());
+        }
+        assertTrue(Arrays.equals(Arrays.copyOfRange(inData, 1, inData.length), baout.toByteArray()),
+            "Content differs");
+    }
+
+    @Test
+    public void testCopy_readableByteChannelToWritableByteChannel_nullOut() throws Exception {
+        try (ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(inData))) {
+            assertThrows(NullPointerException.class, () -> IOUtils.copy(in, (WritableByteChannel) null));
+        }
+    }
+
     @Test
     public void testCopy_inputStreamToOutputStream_nullIn() {
         final OutputStream out = new ByteArrayOutputStream();
@@ -55,7 +55,9 @@
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.Selector;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -558,6 +560,54 @@ public void testContentEquals_InputStream_InputStream() throws Exception {
         }
     }
 
+    @Test
+    public void testContentEquals_ReadableByteChannel_ReadableByteChannel() throws Exception {
+        assertTrue(IOUtils.contentEquals((ReadableByteChannel) null, null));
+        final byte[] data = TestUtils.generateTestData(IOUtils.DEFAULT_BUFFER_SIZE * 2 + 11);
+        try (ReadableByteChannel input = Channels.newChannel(new ByteArrayInputStream(data))) {
+            assertFalse(IOUtils.contentEquals(input, null));
+            assertFalse(IOUtils.contentEquals(null, input));
+            assertTrue(IOUtils.contentEquals(input, input));
+        }
+        assertTrue(IOUtils.contentEquals(Channels.newChannel(new ByteArrayInputStream(new byte[0])),
+            Channels.newChannel(new ByteArrayInputStream(new byte[0]))));
+        assertTrue(IOUtils.contentEquals(Channels.newChannel(new ByteArrayInputStream(data)),
+            Channels.newChannel(shortReads(data, 13))));
+        for (final int length : new int[] {data.length - 1, data.length + 1, IOUtils.DEFAULT_BUFFER_SIZE}) {
+            assertFalse(IOUtils.contentEquals(Channels.newChannel(new ByteArrayInputStream(data)),
+                Channels.newChannel(new ByteArrayInputStream(Arrays.copyOf(data, length)))));
+        }
+        final byte[] other = data.clone();
+        other[IOUtils.DEFAULT_BUFFER_SIZE + 1]++;
+        assertFalse(IOUtils.contentEquals(Channels.newChannel(new ByteArrayInputStream(data)),
+            Channels.newChannel(new ByteArrayInputStream(other))));
+        try (FileChannel input1 = FileChannel.open(testFile.toPath());
+            FileChannel input2 = FileChannel.open(testFile.toPath())) {
+            assertTrue(IOUtils.contentEquals(input1, input2));
+        }
+    }
+
+    @Test
+    public void testContentEquals_InputStream_InputStream_ShortReads() throws Exception {
+        // reads of different sizes leave the two buffers filled to different, unaligned limits
+        final byte[] data = TestUtils.generateTestData(IOUtils.DEFAULT_BUFFER_SIZE * 2 + 11);
+        final int[] maxReads = {1, 3, 7, 8, 13, 4096, Integer.MAX_VALUE};
+        for (final int maxRead1 : maxReads) {
+            for (final int maxRead2 : maxReads) {
+                assertTrue(IOUtils.contentEquals(shortReads(data, maxRead1), shortReads(data, maxRead2)));
+                for (final int index : new int[] {0, 5, 8, IOUtils.DEFAULT_BUFFER_SIZE - 1, IOUtils.DEFAULT_BUFFER_SIZE,
+                    data.length - 1}) {
+                    final byte[] other = data.clone();
+                    other[index]++;
+                    assertFalse(IOUtils.contentEquals(shortReads(data, maxRead1), shortReads(other, maxRead2)));
+                }
+                final byte[] longer = Arrays.copyOf(data, data.length + 1);
+                assertFalse(IOUtils.contentEquals(shortReads(data, maxRead1), shortReads(longer, maxRead2)));
+                assertFalse(IOUtils.contentEquals(shortReads(longer, maxRead1), shortReads(data, maxRead2)));
+            }
+        }
+    }
+
     @Test
     public void testContentEquals_Reader_Reader() throws Exception {
         {
@@ -1435,6 +1485,38 @@ public void testToByteArray_InputStream() throws Exception {
         }
     }
 
+    @Test
+    public void testToByteArray_InputStream_ByteArrayPartiallyRead() throws Exception {
+        final byte[] data = TestUtils.generateTestData(FILE_SIZE);
+        final ByteArrayInputStream in = new ByteArrayInputStream(data);
+        assertEquals(10, in.read(new byte[10]));
+        assertArrayEquals(Arrays.copyOfRange(data, 10, data.length), IOUtils.toByteArray(in));
+        assertEquals(0, IOUtils.toByteArray(in).length);
+    }
+
+    @Test
+    public void testToByteArray_InputStream_EmptyFile() throws Exception {
+        final File emptyFile = new File(temporaryFolder, "empty.bin");
+        FileUtils.touch(emptyFile);
+        try (FileInputStream fin = new FileInputStream(emptyFile)) {
+            assertEquals(0, IOUtils.toByteArray(fin).length);
+        }
+    }
+
+    @Test
+    public void testToByteArray_InputStream_FilePartiallyRead() throws Exception {
+        try (FileInputStream fin = new FileInputStream(testFile)) {
+            final byte[] head = new byte[10];
+            IOUtils.readFully(fin, head);
+            final byte[] out = IOUtils.toByteArray(fin);
+            assertEquals(FILE_SIZE - 10, out.length, "Wrong output size");
+            final byte[] all = new byte[FILE_SIZE];
+            System.arraycopy(head, 0, all, 0, head.length);
+            System.arraycopy(out, 0, all, head.length, out.length);
+            TestUtils.assertEqualContent(all, testFile);
+        }
+    }
+
     @Test
     public void testToByteArray_InputStream_NegativeSize() throws Exception {
 
@@ -1552,6 +1634,64 @@ public void testToByteArray_URLConnection() throws Exception {
         assertEquals(FILE_SIZE, actual.length);
     }
 
+    @Test
+    public void testToByteArray_URLConnection_WrongContentLength() throws Exception {
+        final byte[] data = TestUtils.generateTestData(FILE_SIZE);
+        for (final long contentLength : new long[] {-1, 0, 1, FILE_SIZE - 1, FILE_SIZE, FILE_SIZE + 1, 10L * FILE_SIZE,
+            Integer.MAX_VALUE - 8L, Long.MAX_VALUE}) {
+            final URLConnection urlConn = new URLConnection(testFile.toURI().toURL()) {
+                @Override
+                public void connect() {
+                    // noop
+                }
+
+                @Override
+                public long getContentLengthLong() {
+                    return contentLength;
+                }
+
+                @Override
+                public InputStream getInputStream() {
+                    // not a ByteArrayInputStream so the content length is the only hint
+                    return new BufferedInputStream(new ByteArrayInputStream(data));
+                }
+            };
+            assertArrayEquals(data, IOUtils.toByteArray(urlConn), "contentLength=" + contentLength);
+        }
+    }
+
+    @Test
+    public void testToByteBuffer_InputStream() throws Exception {
+        // known sizes, and a stream of unknown size that outgrows the initial buffer
+        final byte[] data = TestUtils.generateTestData(IOUtils.DEFAULT_BUFFER_SIZE * 3 + 5);
+        for (final InputStream in : new InputStream[] {new ByteArrayInputStream(data),
+            new BufferedInputStream(new ByteArrayInputStream(data)), shortReads(data, 7)}) {
+            final ByteBuffer buffer = IOUtils.toByteBuffer(in);
+            assertTrue(buffer.isDirect());
+            assertEquals(0, buffer.position());
+            final byte[] actual = new byte[buffer.remaining()];
+            buffer.get(actual);
+            assertArrayEquals(data, actual);
+        }
+        assertEquals(0, IOUtils.toByteBuffer(new ByteArrayInputStream(new byte[0])).remaining());
+        assertThrows(NullPointerException.class, () -> IOUtils.toByteBuffer(null));
+    }
+
+    @Test
+    public void testToByteBuffer_InputStream_FilePartiallyRead() throws Exception {
+        try (FileInputStream fin = new FileInputStream(testFile)) {
+            final byte[] head = new byte[10];
+            IOUtils.readFully(fin, head);
+            final ByteBuffer buffer = IOUtils.toByteBuffer(fin);
+            assertEquals(FILE_SIZE - 10, buffer.remaining(), "Wrong output size");
+            final byte[] all = new byte[FILE_SIZE];
+            System.arraycopy(head, 0, all, 0, head.length);
+            buffer.get(all, head.length, buffer.remaining());
+            TestUtils.assertEqualContent(all, testFile);
+            assertEquals(-1, fin.read());
+        }
+    }
+
     @Test
     public void testToCharArray_InputStream() throws Exception {
         try (FileInputStream fin = new FileInputStream(testFile)) {
@@ -1705,4 +1845,12 @@ public void testToString_URL_CharsetNameNull() throws Exception {
         testToString_URL(null);
     }
 
+    private static InputStream shortReads(final byte[] data, final int maxRead) {
+        return new ByteArrayInputStream(data) {
+            @Override
+            public synchronized int read(final byte[] b, final int off, final int len) {
+                return super.read(b, off, Math.min(len, maxRead));
+            }
+        };
+    }
 }
@@ -17,12 +17,16 @@
 package org.apache.commons.io;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
@@ -31,6 +35,7 @@
 import org.apache.commons.io.test.TestUtils;
 import org.apache.commons.io.test.ThrowOnFlushAndCloseOutputStream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * JUnit tests for IOUtils write methods.
@@ -83,6 +88,50 @@ public void testWrite_byteArrayToOutputStream_nullStream() throws Exception {
         }
     }
 
+    @Test
+    public void testWrite_byteBufferToOutputStream() throws Exception {
+        final ByteBuffer direct = ByteBuffer.allocateDirect(inData.length + 2);
+        direct.put((byte) 1).put(inData).put((byte) 2).flip();
+        direct.position(1).limit(inData.length + 1);
+        final ByteBuffer slice = ByteBuffer.wrap(new byte[inData.length + 10], 3, inData.length).slice();
+        slice.put(inData).flip();
+        for (final ByteBuffer data : new ByteBuffer[] {ByteBuffer.wrap(inData), slice, direct,
+            ByteBuffer.wrap(inData).asReadOnlyBuffer()}) {
+            final ByteArrayOutputStream baout = new ByteArrayOutputStream();
+            IOUtils.write(data, baout);
+            assertEquals(0, data.remaining(), "Position not advanced");
+            assertTrue(Arrays.equals(inData, baout.toByteArray()), "Content differs");
+        }
+    }
+
+    @Test
+    public void testWrite_byteBufferToFileOutputStream(@TempDir final File temporaryFolder) throws Exception {
+        final File target = new File(temporaryFolder, "target.bin");
+        final ByteBuffer direct = ByteBuffer.allocateDirect(inData.length);
+        direct.put(inData).flip();
+        try (FileOutputStream out = new FileOutputStream(target)) {
+            out.write(1);
+            IOUtils.write(direct, out);
+        }
+        assertEquals(0, direct.remaining(), "Position not advanced");
+        final byte[] expected = new byte[inData.length + 1];
+        expected[0] = 1;
+        System.arraycopy(inData, 0, expected, 1, inData.length);
+        assertTrue(Arrays.equals(expected, FileUtils.readFileToByteArray(target)), "Content differs");
+    }
+
+    @Test
+    public void testWrite_byteBufferToOutputStream_nullData() throws Exception {
+        final ByteArrayOutputStream baout = new ByteArrayOutputStream();
+        IOUtils.write((ByteBuffer) null, baout);
+        assertEquals(0, baout.size(), "Sizes differ");
+    }
+
+    @Test
+    public void testWrite_byteBufferToOutputStream_nullStream() {
+        assertThrows(NullPointerException.class, () -> IOUtils.write(ByteBuffer.wrap(inData), (OutputStream) null));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void testWrite_byteArrayToWriter() throws Exception {
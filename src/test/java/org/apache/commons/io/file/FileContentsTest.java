@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.file;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link FileContents}, and its Java 11 or 17 version when run against the multi-release JAR.
+ */
+public class FileContentsTest {
+
+    private static final OpenOption[] NO_OPTIONS = {};
+
+    /**
+     * Set when the tests run against the multi-release JAR, see the java17+ profile.
+     */
+    private static final boolean MULTI_RELEASE = Boolean.getBoolean("commons.io.test.multiRelease");
+
+    @TempDir
+    public Path tempDir;
+
+    private static void testEquals(final ByteBuffer buffer1, final ByteBuffer buffer2) {
+        for (int i = 0; i < 20; i++) {
+            buffer1.put(i, (byte) i);
+            buffer2.put(i, (byte) i);
+        }
+        buffer2.put(19, (byte) -1);
+        // the positions of the buffers are ignored
+        buffer1.position(5);
+        buffer2.position(20);
+        assertTrue(FileContents.equals(buffer1, buffer2, 19));
+        assertFalse(FileContents.equals(buffer1, buffer2, 20));
+        assertTrue(FileContents.equals(buffer1, buffer2, 0));
+        buffer2.put(3, (byte) -1);
+        assertFalse(FileContents.equals(buffer1, buffer2, 19));
+    }
+
+    @Test
+    public void testEqualsBuffers() {
+        testEquals(ByteBuffer.allocate(20), ByteBuffer.allocate(20));
+        testEquals(ByteBuffer.allocateDirect(20), ByteBuffer.allocateDirect(20));
+        testEquals(ByteBuffer.allocate(20), ByteBuffer.allocateDirect(20));
+    }
+
+    @Test
+    public void testEqualsPaths() throws Exception {
+        final Path path1 = tempDir.resolve("file1.bin");
+        final Path path2 = tempDir.resolve("file2.bin");
+        final byte[] bytes = new byte[10_000];
+        bytes[5_000] = 1;
+        Files.write(path1, bytes);
+        Files.write(path2, bytes);
+        assertTrue(FileContents.equals(path1, path2, NO_OPTIONS));
+        assertTrue(FileContents.equals(path1, path2, new OpenOption[] {StandardOpenOption.READ}));
+        bytes[9_999] = 1;
+        Files.write(path2, bytes);
+        assertFalse(FileContents.equals(path1, path2, NO_OPTIONS));
+        assertFalse(FileContents.equals(path1, path2, new OpenOption[] {StandardOpenOption.READ}));
+    }
+
+    @Test
+    public void testVersion() {
+        assertTrue(!MULTI_RELEASE || FileContents.class.getResource("FileContents.class").toString()
+            .contains("/META-INF/versions/"), "versioned class");
+    }
+}
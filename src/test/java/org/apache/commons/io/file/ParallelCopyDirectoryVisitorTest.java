@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.io.file;
+
+import static org.apache.commons.io.file.CounterAssertions.assertCounts;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.io.IOExceptionList;
+import org.apache.commons.io.file.Counters.PathCounters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests {@link ParallelCopyDirectoryVisitor}.
+ */
+public class ParallelCopyDirectoryVisitorTest extends TestArguments {
+
+    private ExecutorService executor;
+    private Path targetDir;
+
+    @AfterEach
+    public void afterEach() throws IOException {
+        executor.shutdownNow();
+        PathUtils.deleteDirectory(targetDir);
+    }
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        executor = Executors.newFixedThreadPool(2);
+        targetDir = Files.createTempDirectory(getClass().getCanonicalName() + "-target");
+    }
+
+    /**
+     * Tests a directory with two subdirectories, each containing one file of size 1.
+     */
+    @ParameterizedTest
+    @MethodSource("pathCounters")
+    public void testCopyDirectoryFolders2FileSize2(final PathCounters pathCounters) throws IOException {
+        final Path sourceDir = Paths.get("src/test/resources/org/apache/commons/io/dirs-2-file-size-2");
+        assertCounts(3, 2, 2, PathUtils.visitFileTree(new ParallelCopyDirectoryVisitor(pathCounters, sourceDir,
+            targetDir, executor, 1, StandardCopyOption.REPLACE_EXISTING), sourceDir));
+        assertTrue(Files.isRegularFile(targetDir.resolve("dirs-a-file-size-1/file-size-1.bin")));
+        assertTrue(Files.isRegularFile(targetDir.resolve("dirs-b-file-size-1/file-size-1.bin")));
+    }
+
+    /**
+     * Tests that failed copies are collected.
+     */
+    @Test
+    public void testCopyFailures() throws IOException {
+        final Path sourceDir = Paths.get("src/test/resources/org/apache/commons/io/dirs-2-file-size-2");
+        PathUtils.copyDirectory(sourceDir, targetDir, 2);
+        final ParallelCopyDirectoryVisitor visitor = new ParallelCopyDirectoryVisitor(Counters.longPathCounters(),
+            sourceDir, targetDir, executor, 4);
+        final IOExceptionList e = assertThrows(IOExceptionList.class,
+            () -> PathUtils.visitFileTree(visitor, sourceDir));
+        assertEquals(2, e.getCauseList().size());
+        assertTrue(e.getCause() instanceof FileAlreadyExistsException);
+        assertCounts(3, 0, 0, visitor);
+    }
+
+    /**
+     * Tests that runtime exceptions thrown by copies are collected.
+     */
+    @Test
+    public void testCopyRuntimeFailures() {
+        final Path sourceDir = Paths.get("src/test/resources/org/apache/commons/io/dirs-2-file-size-2");
+        final ParallelCopyDirectoryVisitor visitor = new ParallelCopyDirectoryVisitor(Counters.longPathCounters(),
+            sourceDir, targetDir, executor, 4, StandardCopyOption.ATOMIC_MOVE);
+        final IOExceptionList e = assertThrows(IOExceptionList.class,
+            () -> PathUtils.visitFileTree(visitor, sourceDir));
+        assertEquals(2, e.getCauseList().size());
+        assertTrue(e.getCause().getCause() instanceof UnsupportedOperationException);
+        assertCounts(3, 0, 0, visitor);
+        assertThrows(IOExceptionList.class,
+            () -> PathUtils.copyDirectory(sourceDir, targetDir, 2, StandardCopyOption.ATOMIC_MOVE));
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        final Path sourceDir = Paths.get("src/test/resources/org/apache/commons/io/dirs-2-file-size-2");
+        assertThrows(IllegalArgumentException.class,
+            () -> new ParallelCopyDirectoryVisitor(Counters.longPathCounters(), sourceDir, targetDir, executor, 0));
+        assertThrows(IllegalArgumentException.class, () -> PathUtils.copyDirectory(sourceDir, targetDir, 0));
+    }
+
+}
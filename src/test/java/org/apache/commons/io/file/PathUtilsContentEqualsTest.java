@@ -18,6 +18,7 @@
 package org.apache.commons.io.file;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -26,7 +27,9 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
 
+import org.apache.commons.io.test.TestUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -89,6 +92,37 @@ public void testFileContentEquals() throws Exception {
         assertTrue(PathUtils.fileContentEquals(path1, path2));
     }
 
+    @Test
+    public void testFileContentEqualsParallel() throws Exception {
+        // 8-byte ranges compared a long at a time, and a 5-byte tail compared byte by byte
+        final byte[] data = TestUtils.generateTestData(8 * 100 + 5);
+        final Path path1 = temporaryFolder.toPath().resolve(getName());
+        final Path path2 = temporaryFolder.toPath().resolve(getName() + "2");
+        Files.write(path1, data);
+        Files.write(path2, data);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertThrows(NullPointerException.class, () -> PathUtils.fileContentEquals(path1, path2,
+                PathUtils.EMPTY_LINK_OPTION_ARRAY, PathUtils.EMPTY_OPEN_OPTION_ARRAY, null));
+            assertTrue(PathUtils.fileContentEquals(path1, path2, PathUtils.EMPTY_LINK_OPTION_ARRAY,
+                PathUtils.EMPTY_OPEN_OPTION_ARRAY, pool));
+            for (final int chunkSize : new int[] {8, 13, 64, data.length, data.length + 1}) {
+                assertTrue(PathUtils.fileContentEquals(path1, path2, PathUtils.EMPTY_LINK_OPTION_ARRAY,
+                    PathUtils.EMPTY_OPEN_OPTION_ARRAY, pool, chunkSize));
+                for (final int index : new int[] {0, 7, 8, 401, data.length - 1}) {
+                    final byte[] other = data.clone();
+                    other[index]++;
+                    Files.write(path2, other);
+                    assertFalse(PathUtils.fileContentEquals(path1, path2, PathUtils.EMPTY_LINK_OPTION_ARRAY,
+                        PathUtils.EMPTY_OPEN_OPTION_ARRAY, pool, chunkSize), () -> chunkSize + "/" + index);
+                }
+                Files.write(path2, data);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void testDirectoryContentEquals() throws Exception {
         // Non-existent files
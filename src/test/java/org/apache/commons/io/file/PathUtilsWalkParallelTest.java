@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.io.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.filefilter.DirectoryFileFilter;
+import org.apache.commons.io.filefilter.FileFileFilter;
+import org.apache.commons.io.filefilter.TrueFileFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link PathUtils#walkParallel(Path, PathFilter, int, boolean, FileVisitOption...)}.
+ */
+public class PathUtilsWalkParallelTest {
+
+    /**
+     * A temporary directory managed by JUnit.
+     */
+    @TempDir
+    public Path tempDir;
+
+    private void createTree(final Path directory, final int depth) throws IOException {
+        for (int i = 0; i < 4; i++) {
+            Files.createFile(directory.resolve("file-" + i + ".txt"));
+        }
+        if (depth > 0) {
+            for (int i = 0; i < 3; i++) {
+                createTree(Files.createDirectory(directory.resolve("dir-" + i)), depth - 1);
+            }
+        }
+    }
+
+    private Set<Path> walk(final PathFilter filter, final int maxDepth, final FileVisitOption... options)
+        throws IOException {
+        try (Stream<Path> stream = Files.walk(tempDir, maxDepth, options)) {
+            return stream.filter(path -> filter.accept(path, null) == FileVisitResult.CONTINUE)
+                .collect(Collectors.toSet());
+        }
+    }
+
+    private Set<Path> walkParallel(final PathFilter filter, final int maxDepth, final FileVisitOption... options)
+        throws IOException {
+        try (Stream<Path> stream = PathUtils.walkParallel(tempDir, filter, maxDepth, true, options)) {
+            return stream.collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void testAttributes() throws IOException {
+        createTree(tempDir, 1);
+        try (Stream<Path> stream = PathUtils.walkParallel(tempDir, (path, attributes) -> {
+            assertNotNull(attributes);
+            assertEquals(Files.isDirectory(path), attributes.isDirectory());
+            return FileVisitResult.CONTINUE;
+        }, Integer.MAX_VALUE, true)) {
+            assertEquals(20, stream.count());
+        }
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class,
+            () -> PathUtils.walkParallel(tempDir, TrueFileFilter.INSTANCE, -1, false));
+        assertThrows(NoSuchFileException.class,
+            () -> PathUtils.walkParallel(tempDir.resolve("missing"), TrueFileFilter.INSTANCE, 1, false));
+    }
+
+    @Test
+    public void testLoop() throws IOException {
+        final Path dir = Files.createDirectory(tempDir.resolve("dir"));
+        try {
+            Files.createSymbolicLink(dir.resolve("link"), tempDir);
+        } catch (final IOException | UnsupportedOperationException e) {
+            // symbolic links not supported
+            return;
+        }
+        // not following links, the link is an entry
+        assertEquals(walk(TrueFileFilter.INSTANCE, Integer.MAX_VALUE), walkParallel(TrueFileFilter.INSTANCE,
+            Integer.MAX_VALUE));
+        final UncheckedIOException e = assertThrows(UncheckedIOException.class,
+            () -> walkParallel(TrueFileFilter.INSTANCE, Integer.MAX_VALUE, FileVisitOption.FOLLOW_LINKS));
+        assertTrue(e.getCause() instanceof FileSystemLoopException);
+    }
+
+    @Test
+    public void testSameAsWalk() throws IOException {
+        createTree(tempDir, 4);
+        for (final PathFilter filter : new PathFilter[] {TrueFileFilter.INSTANCE, FileFileFilter.INSTANCE,
+            DirectoryFileFilter.INSTANCE}) {
+            for (final int maxDepth : new int[] {0, 1, 2, Integer.MAX_VALUE}) {
+                assertEquals(walk(filter, maxDepth), walkParallel(filter, maxDepth), filter + " " + maxDepth);
+            }
+        }
+        try (Stream<Path> stream = PathUtils.walkParallel(tempDir, TrueFileFilter.INSTANCE, Integer.MAX_VALUE,
+            false)) {
+            // sequential
+            assertEquals(walk(TrueFileFilter.INSTANCE, Integer.MAX_VALUE).size(), stream.sequential().count());
+        }
+    }
+
+    @Test
+    public void testSplits() throws IOException {
+        createTree(tempDir, 3);
+        final Set<Path> seen = ConcurrentHashMap.newKeySet();
+        final PathSpliterator spliterator = new PathSpliterator(tempDir, TrueFileFilter.INSTANCE, Integer.MAX_VALUE,
+            false);
+        try {
+            final Spliterator<Path> split = spliterator.trySplit();
+            assertNotNull(split);
+            split.forEachRemaining(path -> assertTrue(seen.add(path), path.toString()));
+            final int splitCount = seen.size();
+            assertTrue(splitCount > 0);
+            spliterator.forEachRemaining(path -> assertTrue(seen.add(path), path.toString()));
+            assertTrue(seen.size() > splitCount);
+        } finally {
+            spliterator.close();
+        }
+        assertEquals(walk(TrueFileFilter.INSTANCE, Integer.MAX_VALUE), seen);
+    }
+}
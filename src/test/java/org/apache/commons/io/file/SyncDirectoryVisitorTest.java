@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.io.file;
+
+import static org.apache.commons.io.file.CounterAssertions.assertCounts;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link SyncDirectoryVisitor}.
+ */
+public class SyncDirectoryVisitorTest {
+
+    private static final SyncOption[] COMPARE_CONTENT = {StandardSyncOption.COMPARE_CONTENT};
+    private static final SyncOption[] DELETE_EXTRANEOUS = {StandardSyncOption.DELETE_EXTRANEOUS};
+
+    @TempDir
+    public Path tempDir;
+
+    private Path sourceDir;
+    private Path targetDir;
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        sourceDir = tempDir.resolve("source");
+        targetDir = tempDir.resolve("target");
+        PathUtils.copyDirectory(Paths.get("src/test/resources/org/apache/commons/io/dirs-2-file-size-2"), sourceDir);
+    }
+
+    @Test
+    public void testCompareContent() throws IOException {
+        PathUtils.syncDirectory(sourceDir, targetDir, null);
+        final Path targetFile = targetDir.resolve("dirs-a-file-size-1/file-size-1.bin");
+        Files.setLastModifiedTime(targetFile, FileTime.fromMillis(0));
+        // same content
+        SyncDirectoryVisitor visitor = PathUtils.syncDirectory(sourceDir, targetDir, COMPARE_CONTENT);
+        assertCounts(3, 0, 0, visitor);
+        assertCounts(0, 2, 2, visitor.getSkippedCounters());
+        // same size, different content
+        Files.write(targetFile, new byte[] {'?'});
+        visitor = PathUtils.syncDirectory(sourceDir, targetDir, COMPARE_CONTENT);
+        assertCounts(3, 1, 1, visitor);
+        assertCounts(0, 1, 1, visitor.getSkippedCounters());
+        assertArrayEquals(Files.readAllBytes(sourceDir.resolve("dirs-a-file-size-1/file-size-1.bin")),
+            Files.readAllBytes(targetFile));
+    }
+
+    @Test
+    public void testDeleteExtraneous() throws IOException {
+        PathUtils.syncDirectory(sourceDir, targetDir, null);
+        Files.write(targetDir.resolve("extra.txt"), "extra".getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(targetDir.resolve("dirs-a-file-size-1/extra-dir"));
+        Files.write(targetDir.resolve("dirs-a-file-size-1/extra-dir/extra.bin"), new byte[3]);
+
+        SyncDirectoryVisitor visitor = PathUtils.syncDirectory(sourceDir, targetDir, null);
+        assertCounts(0, 0, 0, visitor.getDeletedCounters());
+        visitor = PathUtils.syncDirectory(sourceDir, targetDir, DELETE_EXTRANEOUS);
+        assertCounts(3, 0, 0, visitor);
+        assertCounts(0, 2, 2, visitor.getSkippedCounters());
+        assertCounts(1, 2, 8, visitor.getDeletedCounters());
+        assertFalse(Files.exists(targetDir.resolve("extra.txt")));
+        assertFalse(Files.exists(targetDir.resolve("dirs-a-file-size-1/extra-dir")));
+        assertEquals(2, PathUtils.countDirectory(targetDir).getFileCounter().get());
+    }
+
+    @Test
+    public void testDeleteExtraneousReplacesType() throws IOException {
+        PathUtils.syncDirectory(sourceDir, targetDir, null);
+        // a non-empty directory where the source has a file
+        final Path targetFile = targetDir.resolve("dirs-a-file-size-1/file-size-1.bin");
+        Files.delete(targetFile);
+        Files.createDirectories(targetFile.resolve("extra-dir"));
+        Files.write(targetFile.resolve("extra.bin"), new byte[3]);
+        // a file where the source has a directory
+        final Path targetSubDir = targetDir.resolve("dirs-b-file-size-1");
+        PathUtils.deleteDirectory(targetSubDir);
+        Files.write(targetSubDir, new byte[5]);
+
+        final SyncDirectoryVisitor visitor = PathUtils.syncDirectory(sourceDir, targetDir, DELETE_EXTRANEOUS);
+        assertCounts(3, 2, 2, visitor);
+        assertCounts(2, 2, 8, visitor.getDeletedCounters());
+        assertTrue(Files.isRegularFile(targetFile));
+        assertTrue(Files.isRegularFile(targetSubDir.resolve("file-size-1.bin")));
+        assertEquals(2, PathUtils.countDirectory(targetDir).getFileCounter().get());
+    }
+
+    @Test
+    public void testSyncSkipsUpToDateFiles() throws IOException {
+        SyncDirectoryVisitor visitor = PathUtils.syncDirectory(sourceDir, targetDir, null);
+        assertCounts(3, 2, 2, visitor);
+        assertCounts(0, 0, 0, visitor.getSkippedCounters());
+
+        visitor = PathUtils.syncDirectory(sourceDir, targetDir, null);
+        assertCounts(3, 0, 0, visitor);
+        assertCounts(0, 2, 2, visitor.getSkippedCounters());
+
+        // a changed time is enough to copy again
+        final Path sourceFile = sourceDir.resolve("dirs-b-file-size-1/file-size-1.bin");
+        Files.setLastModifiedTime(sourceFile, FileTime.fromMillis(Files.getLastModifiedTime(sourceFile).toMillis() - 10_000));
+        visitor = PathUtils.syncDirectory(sourceDir, targetDir, null);
+        assertCounts(3, 1, 1, visitor);
+        assertCounts(0, 1, 1, visitor.getSkippedCounters());
+        assertEquals(Files.getLastModifiedTime(sourceFile).toMillis(),
+            Files.getLastModifiedTime(targetDir.resolve("dirs-b-file-size-1/file-size-1.bin")).toMillis());
+    }
+
+}
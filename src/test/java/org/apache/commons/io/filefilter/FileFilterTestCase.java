@@ -37,6 +37,8 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -332,6 +334,31 @@ public void testAndArray() {
         assertFiltering(new AndFileFilter(), new File("test"), false);
     }
 
+    @Test
+    public void testAttributes() throws Exception {
+        final Path emptyFile = Files.createFile(temporaryFolder.toPath().resolve("empty.txt"));
+        final Path dataFile = Files.write(temporaryFolder.toPath().resolve("data.txt"), new byte[32]);
+        Files.setLastModifiedTime(emptyFile, FileTime.fromMillis(1000));
+        final BasicFileAttributes emptyAttributes = Files.readAttributes(emptyFile, BasicFileAttributes.class);
+        final BasicFileAttributes dataAttributes = Files.readAttributes(dataFile, BasicFileAttributes.class);
+        final BasicFileAttributes dirAttributes = Files.readAttributes(temporaryFolder.toPath(),
+            BasicFileAttributes.class);
+        // filters use the given attributes instead of reading them again
+        assertEquals(FileVisitResult.TERMINATE, new SizeFileFilter(16).accept(dataFile, emptyAttributes));
+        assertEquals(FileVisitResult.CONTINUE, new SizeFileFilter(16).accept(emptyFile, dataAttributes));
+        assertEquals(FileVisitResult.CONTINUE, EmptyFileFilter.EMPTY.accept(dataFile, emptyAttributes));
+        assertEquals(FileVisitResult.TERMINATE, EmptyFileFilter.EMPTY.accept(emptyFile, dataAttributes));
+        assertEquals(FileVisitResult.TERMINATE, FileFileFilter.INSTANCE.accept(dataFile, dirAttributes));
+        assertEquals(FileVisitResult.CONTINUE, DirectoryFileFilter.INSTANCE.accept(dataFile, dirAttributes));
+        assertEquals(FileVisitResult.CONTINUE, new AgeFileFilter(2000).accept(dataFile, emptyAttributes));
+        assertEquals(FileVisitResult.TERMINATE, new AgeFileFilter(2000).accept(emptyFile, dataAttributes));
+        // without attributes, filters read them
+        assertEquals(FileVisitResult.CONTINUE, new SizeFileFilter(16).accept(dataFile, null));
+        assertEquals(FileVisitResult.CONTINUE, EmptyFileFilter.EMPTY.accept(emptyFile, null));
+        assertEquals(FileVisitResult.CONTINUE, FileFileFilter.INSTANCE.accept(dataFile, null));
+        assertEquals(FileVisitResult.CONTINUE, new AgeFileFilter(2000).accept(emptyFile, null));
+    }
+
     @Test
     public void testCanExecute() throws Exception {
         assumeTrue(SystemUtils.IS_OS_WINDOWS);
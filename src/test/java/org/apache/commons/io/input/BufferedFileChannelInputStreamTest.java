@@ -16,10 +16,19 @@
  */
 package org.apache.commons.io.input;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Tests functionality of {@link BufferedFileChannelInputStream}.
@@ -29,6 +38,9 @@
  */
 public class BufferedFileChannelInputStreamTest extends AbstractInputStreamTest {
 
+    @TempDir
+    public File temporaryFolder;
+
     @SuppressWarnings("resource")
     @Override
     @BeforeEach
@@ -41,4 +53,23 @@ public void setUp() throws IOException {
         };
         //@formatter:on
     }
+
+    @Test
+    public void testTransferTo() throws IOException {
+        final byte[] expected = FileUtils.readFileToByteArray(inputFile);
+        for (final InputStream inputStream : inputStreams) {
+            final BufferedFileChannelInputStream bufferedStream = (BufferedFileChannelInputStream) inputStream;
+            // Start with partially consumed buffered content
+            assertEquals(expected[0], (byte) bufferedStream.read());
+            final File outputFile = File.createTempFile("transfer", ".tmp", temporaryFolder);
+            try (FileOutputStream outputStream = new FileOutputStream(outputFile)) {
+                assertEquals(10_000, bufferedStream.transferTo(outputStream.getChannel(), 10_000));
+                assertEquals(expected.length - 10_001, bufferedStream.transferTo(outputStream.getChannel(), -1));
+                assertEquals(0, bufferedStream.transferTo(outputStream.getChannel(), -1));
+            }
+            assertArrayEquals(Arrays.copyOfRange(expected, 1, expected.length),
+                FileUtils.readFileToByteArray(outputFile));
+            assertEquals(-1, bufferedStream.read());
+        }
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link FileTailerPositionStore}.
+ */
+public class FileTailerPositionStoreTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void testFlushInterval() throws Exception {
+        final Path path = tempDir.resolve("positions.properties");
+        final FileTailerPositionStore store = new FileTailerPositionStore(path, 60_000);
+        store.put(new File("a.log"), new TailerPosition(1, 2, null));
+        assertFalse(Files.exists(path), "saved before the flush interval elapsed");
+        store.flushIfDue();
+        assertFalse(Files.exists(path), "saved before the flush interval elapsed");
+        store.flush();
+        assertTrue(Files.exists(path));
+        final FileTailerPositionStore always = new FileTailerPositionStore(path, 0);
+        always.put(new File("b.log"), new TailerPosition(3, 4, null));
+        assertEquals(new TailerPosition(3, 4, null), new FileTailerPositionStore(path, 0).get(new File("b.log")));
+    }
+
+    @Test
+    public void testIllegalArguments() throws Exception {
+        assertThrows(IllegalArgumentException.class,
+            () -> new FileTailerPositionStore(tempDir.resolve("positions.properties"), -1));
+        final Path invalid = tempDir.resolve("invalid.properties");
+        Files.write(invalid, Collections.singletonList("a.log=1"), StandardCharsets.ISO_8859_1);
+        assertThrows(IllegalArgumentException.class, () -> new FileTailerPositionStore(invalid, 0));
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        final Path path = tempDir.resolve("positions.properties");
+        final FileTailerPositionStore store = new FileTailerPositionStore(path, 0);
+        final File file1 = new File(tempDir.toFile(), "a=b.log");
+        final File file2 = new File(tempDir.toFile(), "c.log");
+        assertNull(store.get(file1));
+        final TailerPosition position1 = new TailerPosition(123, 456, 0xCAFEBABEL, "(dev=803,ino=1234)");
+        final TailerPosition position2 = new TailerPosition(0, 789, null);
+        store.put(file1, position1);
+        store.put(file2, position2);
+        store.flush();
+        final FileTailerPositionStore reloaded = new FileTailerPositionStore(path, 0);
+        assertEquals(position1, reloaded.get(file1));
+        assertEquals(position2, reloaded.get(file2));
+        assertEquals(position1, reloaded.get(file1.getAbsoluteFile()));
+        assertFalse(Files.exists(path.resolveSibling("positions.properties.tmp")));
+    }
+}
@@ -29,6 +29,8 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Stack;
 import java.util.stream.Stream;
 
@@ -82,6 +84,25 @@ public static Stream<Arguments> testDataIntegrityWithBufferedReader() throws IOE
     public void testDataIntegrityWithBufferedReader(final String fileName, final String charsetName,
             final Integer blockSize, final boolean useNonDefaultFileSystem, final boolean isResource)
             throws IOException, URISyntaxException {
+        testDataIntegrityWithBufferedReader(fileName, charsetName, blockSize, useNonDefaultFileSystem, isResource,
+                false);
+    }
+
+    /**
+     * Tests memory mapped readers, the block size is the size of the mapped segments.
+     */
+    @ParameterizedTest(name = "{0}, encoding={1}, blockSize={2}, useNonDefaultFileSystem={3}, isResource={4}")
+    @MethodSource("testDataIntegrityWithBufferedReader")
+    public void testDataIntegrityWithBufferedReaderMemoryMapped(final String fileName, final String charsetName,
+            final Integer blockSize, final boolean useNonDefaultFileSystem, final boolean isResource)
+            throws IOException, URISyntaxException {
+        testDataIntegrityWithBufferedReader(fileName, charsetName, blockSize, useNonDefaultFileSystem, isResource,
+                true);
+    }
+
+    private void testDataIntegrityWithBufferedReader(final String fileName, final String charsetName,
+            final Integer blockSize, final boolean useNonDefaultFileSystem, final boolean isResource,
+            final boolean memoryMapped) throws IOException, URISyntaxException {
 
         Path filePath = isResource ? TestResources.getPath(fileName) : Paths.get(fileName);
         FileSystem fileSystem = null;
@@ -92,9 +113,10 @@ public void testDataIntegrityWithBufferedReader(final String fileName, final Str
 
         // We want to test null Charset in the ReversedLinesFileReader ctor.
         final Charset charset = charsetName != null ? Charset.forName(charsetName) : null;
+        final List<String> lines = new ArrayList<>();
         try (ReversedLinesFileReader reversedLinesFileReader = blockSize == null
-                ? new ReversedLinesFileReader(filePath, charset)
-                : new ReversedLinesFileReader(filePath, blockSize, charset)) {
+                ? new ReversedLinesFileReader(filePath, charset, memoryMapped)
+                : new ReversedLinesFileReader(filePath, blockSize, charset, memoryMapped)) {
 
             final Stack<String> lineStack = new Stack<>();
             String line;
@@ -103,6 +125,7 @@ public void testDataIntegrityWithBufferedReader(final String fileName, final Str
                 // read all lines in normal order
                 while ((line = bufferedReader.readLine()) != null) {
                     lineStack.push(line);
+                    lines.add(0, line);
                 }
             }
 
@@ -112,10 +135,20 @@ public void testDataIntegrityWithBufferedReader(final String fileName, final Str
                 assertEquals(lineFromBufferedReader, line);
             }
             assertEquals(0, lineStack.size(), "Stack should be empty");
+        }
 
-            if (fileSystem != null) {
-                fileSystem.close();
-            }
+        // the same lines through a consumer
+        try (ReversedLinesFileReader reversedLinesFileReader = blockSize == null
+                ? new ReversedLinesFileReader(filePath, charset, memoryMapped)
+                : new ReversedLinesFileReader(filePath, blockSize, charset, memoryMapped)) {
+            final List<String> consumedLines = new ArrayList<>();
+            assertEquals(lines.size(), reversedLinesFileReader.readLines(Integer.MAX_VALUE,
+                    line -> consumedLines.add(line.toString())));
+            assertEquals(lines, consumedLines);
+        }
+
+        if (fileSystem != null) {
+            fileSystem.close();
         }
     }
 }
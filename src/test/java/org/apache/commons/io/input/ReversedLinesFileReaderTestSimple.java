@@ -18,6 +18,8 @@
 
 import static org.apache.commons.io.input.ReversedLinesFileReaderTestParamBlockSize.assertEqualsAndNoLineBreaks;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -25,14 +27,24 @@
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.TestResources;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class ReversedLinesFileReaderTestSimple {
 
+    @TempDir
+    public Path tempDir;
+
     @Test
     public void testFileSizeIsExactMultipleOfBlockSize() throws URISyntaxException, IOException {
         final int blockSize = 10;
@@ -60,6 +72,77 @@ public void testLineCount() throws URISyntaxException, IOException {
         }
     }
 
+    @Test
+    public void testLines() throws URISyntaxException, IOException {
+        final File testFile20Bytes = TestResources.getFile("/test-file-20byteslength.bin");
+        try (ReversedLinesFileReader reversedLinesFileReader = new ReversedLinesFileReader(testFile20Bytes, 10,
+            "ISO-8859-1")) {
+            assertEquals(Arrays.asList("987654321", "123456789"), reversedLinesFileReader.lines().collect(Collectors.toList()));
+        }
+        try (ReversedLinesFileReader reversedLinesFileReader = new ReversedLinesFileReader(testFile20Bytes.toPath(),
+            StandardCharsets.ISO_8859_1, true)) {
+            assertEquals("987654321", reversedLinesFileReader.lines().findFirst().get());
+            assertEquals(Arrays.asList("123456789"), reversedLinesFileReader.lines().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testMemoryMappedMixedLineBreaks() throws IOException {
+        final String content = "first\r\n\r\nsecond line\rthird\n\n\r\nfourth line is a bit longer\n\rlast\r\n";
+        final Path file = Files.write(tempDir.resolve("mixed.txt"), content.getBytes(StandardCharsets.UTF_8));
+        final List<String> expected = new ArrayList<>();
+        try (ReversedLinesFileReader reversedLinesFileReader = new ReversedLinesFileReader(file, StandardCharsets.UTF_8,
+            false)) {
+            reversedLinesFileReader.lines().forEach(expected::add);
+        }
+        assertEquals(Arrays.asList("last", "", "fourth line is a bit longer", "", "", "third", "second line", "",
+            "first"), expected);
+        // segments smaller than, equal to and larger than the eight bytes searched at a time
+        for (int segmentSize = 1; segmentSize <= content.length() + 1; segmentSize++) {
+            try (ReversedLinesFileReader reversedLinesFileReader = new ReversedLinesFileReader(file, segmentSize,
+                StandardCharsets.UTF_8, true)) {
+                assertEquals(expected, reversedLinesFileReader.lines().collect(Collectors.toList()),
+                    "segmentSize=" + segmentSize);
+            }
+        }
+    }
+
+    @Test
+    public void testMemoryMappedEmptyFile() throws URISyntaxException, IOException {
+        final File testFileEmpty = TestResources.getFile("/test-file-empty.bin");
+        try (ReversedLinesFileReader reversedLinesFileReader = new ReversedLinesFileReader(testFileEmpty.toPath(),
+            StandardCharsets.UTF_8, true)) {
+            assertEquals(null, reversedLinesFileReader.readLine());
+        }
+    }
+
+    @Test
+    public void testReadLinesConsumer() throws URISyntaxException, IOException {
+        final File testFile20Bytes = TestResources.getFile("/test-file-20byteslength.bin");
+        for (final boolean memoryMapped : new boolean[] {false, true}) {
+            try (ReversedLinesFileReader reversedLinesFileReader = new ReversedLinesFileReader(testFile20Bytes.toPath(),
+                StandardCharsets.ISO_8859_1, memoryMapped)) {
+                assertThrows(IllegalArgumentException.class, () -> reversedLinesFileReader.readLines(-1, line -> {}));
+                assertThrows(NullPointerException.class, () -> reversedLinesFileReader.readLines(1, null));
+                final List<CharSequence> sequences = new ArrayList<>();
+                final List<String> lines = new ArrayList<>();
+                assertEquals(1, reversedLinesFileReader.readLines(1, line -> {
+                    sequences.add(line);
+                    lines.add(line.toString());
+                }));
+                assertEquals(1, reversedLinesFileReader.readLines(10, line -> {
+                    sequences.add(line);
+                    lines.add(line.toString());
+                }));
+                assertEquals(0, reversedLinesFileReader.readLines(10, line -> lines.add(line.toString())));
+                assertNull(reversedLinesFileReader.readLine());
+                assertEquals(Arrays.asList("987654321", "123456789"), lines);
+                // the same instance is refilled for each line
+                assertSame(sequences.get(0), sequences.get(1));
+            }
+        }
+    }
+
     @Test
     public void testToString() throws URISyntaxException, IOException {
         final int blockSize = 10;
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.test.TestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link TailerGroup}.
+ */
+public class TailerGroupTest {
+
+    private static class LinesListener extends TailerListenerAdapter {
+
+        final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        volatile Tailer tailer;
+
+        @Override
+        public void handle(final String line) {
+            lines.add(line);
+        }
+
+        @Override
+        public void init(final Tailer tailer) {
+            this.tailer = tailer;
+        }
+    }
+
+    private static void append(final File file, final String data) throws IOException {
+        FileUtils.write(file, data, StandardCharsets.UTF_8, true);
+    }
+
+    private static void awaitLines(final LinesListener listener, final int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (listener.lines.size() < count && System.currentTimeMillis() < deadline) {
+            TestUtils.sleep(10);
+        }
+        assertEquals(count, listener.lines.size(), "line count");
+    }
+
+    @TempDir
+    public File temporaryFolder;
+
+    @Test
+    public void testAddAfterClose() {
+        final TailerGroup group = new TailerGroup(1);
+        group.close();
+        assertThrows(IllegalStateException.class,
+            () -> group.add(new File(temporaryFolder, "closed.txt"), new LinesListener(), 10, false));
+    }
+
+    @Test
+    public void testAddWhileClosing() throws Exception {
+        final File file = new File(temporaryFolder, "closing.txt");
+        append(file, "");
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        try {
+            for (int i = 0; i < 200; i++) {
+                final TailerGroup group = new TailerGroup(executor);
+                final CountDownLatch adding = new CountDownLatch(1);
+                final Thread adder = new Thread(() -> {
+                    try {
+                        while (true) {
+                            group.add(file, StandardCharsets.UTF_8, new LinesListener(), 60_000, true, false);
+                            adding.countDown();
+                        }
+                    } catch (final IllegalStateException e) {
+                        // closed
+                    }
+                });
+                adder.start();
+                adding.await();
+                group.close();
+                adder.join(10_000);
+                assertEquals(0, group.size());
+                // no check left scheduled on the caller's executor
+                assertTrue(executor.getQueue().stream().allMatch(task -> ((Future<?>) task).isCancelled()),
+                    "scheduled checks");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testError() throws Exception {
+        final File file = new File(temporaryFolder, "error.txt");
+        append(file, "one\n");
+        final AssertionError error = new AssertionError("listener");
+        final AtomicReference<Throwable> uncaught = new AtomicReference<>();
+        final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable);
+            thread.setUncaughtExceptionHandler((t, e) -> uncaught.set(e));
+            return thread;
+        });
+        try (TailerGroup group = new TailerGroup(executor)) {
+            group.add(file, StandardCharsets.UTF_8, new LinesListener() {
+                @Override
+                public void handle(final String line) {
+                    throw error;
+                }
+            }, 10, false, false);
+            final long deadline = System.currentTimeMillis() + 10_000;
+            while ((group.size() > 0 || uncaught.get() == null) && System.currentTimeMillis() < deadline) {
+                TestUtils.sleep(10);
+            }
+            assertEquals(0, group.size());
+            assertSame(error, uncaught.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TailerGroup(0));
+        final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+        try {
+            assertThrows(IllegalArgumentException.class, () -> new TailerGroup(executor, 0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLag() throws Exception {
+        final File file = new File(temporaryFolder, "lag.txt");
+        append(file, "one\n");
+        try (TailerGroup group = new TailerGroup(1)) {
+            final LinesListener listener = new LinesListener();
+            // checked once right away, then not during the test
+            final Tailer tailer = group.add(file, StandardCharsets.UTF_8, listener, 60_000, false, false);
+            awaitLines(listener, 1);
+            assertEquals(0, group.getLag(tailer));
+            append(file, "two\n");
+            assertEquals(4, group.getLag(tailer));
+            final Map<File, Long> lag = group.getLag();
+            assertEquals(1, lag.size());
+            assertEquals(4, lag.get(file).longValue());
+        }
+    }
+
+    @Test
+    public void testManyFiles() throws Exception {
+        final int fileCount = 50;
+        final List<File> files = new ArrayList<>();
+        final List<LinesListener> listeners = new ArrayList<>();
+        try (TailerGroup group = new TailerGroup(2)) {
+            for (int i = 0; i < fileCount; i++) {
+                final File file = new File(temporaryFolder, "file" + i + ".txt");
+                append(file, "");
+                final LinesListener listener = new LinesListener();
+                group.add(file, StandardCharsets.UTF_8, listener, 10, false, i % 2 == 0);
+                files.add(file);
+                listeners.add(listener);
+            }
+            assertEquals(fileCount, group.size());
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < fileCount; i++) {
+                    append(files.get(i), "file" + i + " line" + round + "\n");
+                }
+            }
+            for (int i = 0; i < fileCount; i++) {
+                final LinesListener listener = listeners.get(i);
+                awaitLines(listener, 3);
+                for (int round = 0; round < 3; round++) {
+                    assertEquals("file" + i + " line" + round, listener.lines.get(round));
+                }
+            }
+            assertTrue(group.remove(listeners.get(0).tailer));
+            assertFalse(group.remove(listeners.get(0).tailer));
+            assertEquals(fileCount - 1, group.size());
+            append(files.get(0), "ignored\n");
+            append(files.get(1), "handled\n");
+            awaitLines(listeners.get(1), 4);
+            assertEquals(3, listeners.get(0).lines.size());
+        }
+    }
+
+    @Test
+    public void testSharedExecutor() throws Exception {
+        final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+        try {
+            final File file = new File(temporaryFolder, "shared.txt");
+            append(file, "one\n");
+            final LinesListener listener = new LinesListener();
+            try (TailerGroup group = new TailerGroup(executor, 16)) {
+                group.add(file, StandardCharsets.UTF_8, listener, 10, false, false);
+                awaitLines(listener, 1);
+                // the listener stops its tailer
+                listener.tailer.stop();
+                final long deadline = System.currentTimeMillis() + 10_000;
+                while (group.size() > 0 && System.currentTimeMillis() < deadline) {
+                    TestUtils.sleep(10);
+                }
+                assertEquals(0, group.size());
+            }
+            // the group does not shut down an executor it did not create
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
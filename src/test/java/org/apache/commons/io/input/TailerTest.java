@@ -25,6 +25,7 @@
 
 import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -35,6 +36,7 @@
 import java.io.OutputStreamWriter;
 import java.io.RandomAccessFile;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -166,6 +168,62 @@ public void testMultiByteBreak() throws Exception {
         }
     }
 
+    @Test
+    public void testTailerDrainOnRotationCopyTruncate() throws Exception {
+        final File file = new File(temporaryFolder, "tailer-drain-truncate-test.txt");
+        createFile(file, 0);
+        final TestTailerListener listener = new TestTailerListener();
+        tailer = new Tailer(file, StandardCharsets.UTF_8, listener, 10, false, false, IOUtils.DEFAULT_BUFFER_SIZE,
+            StandardTailerOption.DRAIN_ON_ROTATION);
+        final Thread thread = new Thread(tailer);
+        thread.start();
+        write(file, "Line one", "Line two");
+        awaitLines(listener, 2);
+
+        // truncated in place
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(0);
+        }
+        write(file, "New");
+        awaitLines(listener, 3);
+        assertEquals("New", listener.getLines().get(2));
+        assertEquals(1, listener.rotated);
+        assertNull(listener.exception);
+    }
+
+    @Test
+    public void testTailerDrainOnRotationRename() throws Exception {
+        final File file = new File(temporaryFolder, "tailer-drain-rename-test.txt");
+        final File renamed = new File(temporaryFolder, "tailer-drain-rename-test.txt.1");
+        createFile(file, 0);
+        final TestTailerListener listener = new TestTailerListener();
+        tailer = new Tailer(file, StandardCharsets.UTF_8, listener, 10, false, false, IOUtils.DEFAULT_BUFFER_SIZE,
+            StandardTailerOption.DRAIN_ON_ROTATION);
+        final Thread thread = new Thread(tailer);
+        thread.start();
+        write(file, "Line one");
+        awaitLines(listener, 1);
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8)) {
+            // renamed, then written to by a process that still has it open
+            assertTrue(file.renameTo(renamed));
+            writer.write("Line two\n");
+            writer.flush();
+            awaitLines(listener, 2);
+            writer.write("Line three\n");
+        }
+        // a new file longer than the old one
+        write(file, "Line four is longer than the rotated file", "Line five");
+        awaitLines(listener, 5);
+        assertEquals("Line one", listener.getLines().get(0));
+        assertEquals("Line two", listener.getLines().get(1));
+        assertEquals("Line three", listener.getLines().get(2));
+        assertEquals("Line four is longer than the rotated file", listener.getLines().get(3));
+        assertEquals("Line five", listener.getLines().get(4));
+        assertEquals(1, listener.rotated);
+        assertNull(listener.exception);
+    }
+
     @Test
     public void testTailerEof() throws Exception {
         // Create & start the Tailer
@@ -290,6 +348,209 @@ public void testTailerEndOfFileReached() throws Exception {
         assertTrue(listener.reachedEndOfFile >= 3, "end of file reached at least 3 times");
     }
 
+    @Test
+    public void testTailerBatchListener() throws Exception {
+        final File file = new File(temporaryFolder, "tailer-batch-test.txt");
+        createFile(file, 0);
+        final TestBatchListener listener = new TestBatchListener();
+        // a small buffer makes lines span reads
+        tailer = new Tailer(file, StandardCharsets.UTF_8, listener, 10, false, false, 8);
+        final Thread thread = new Thread(tailer);
+        thread.start();
+        writeString(file, "one\ntwo\r\nthree\rfour\nfive");
+        awaitLines(listener, 4);
+        assertEquals("one", listener.getLines().get(0));
+        assertEquals("two", listener.getLines().get(1));
+        assertEquals("three", listener.getLines().get(2));
+        assertEquals("four", listener.getLines().get(3));
+        assertTrue(listener.batches < 4, "lines should be batched");
+        writeString(file, "\n");
+        awaitLines(listener, 5);
+        assertEquals("five", listener.getLines().get(4));
+    }
+
+    @Test
+    public void testTailerBytesListener() throws Exception {
+        final File file = new File(temporaryFolder, "tailer-bytes-test.txt");
+        createFile(file, 0);
+        final TestBytesListener listener = new TestBytesListener();
+        tailer = new Tailer(file, StandardCharsets.UTF_8, listener, 10, false, false, 8);
+        final Thread thread = new Thread(tailer);
+        thread.start();
+        // the last line is not complete until the byte after its CR is known
+        writeString(file, "one\ntwo\r\nthree and more\rfour\r");
+        awaitBytes(listener, "one\ntwo\r\nthree and more\r");
+        TestUtils.sleep(100);
+        assertEquals("one\ntwo\r\nthree and more\r", listener.toString());
+        writeString(file, "\nfive\n");
+        awaitBytes(listener, "one\ntwo\r\nthree and more\rfour\r\nfive\n");
+        assertNull(listener.exception);
+    }
+
+    private void awaitBytes(final TestBytesListener listener, final String expected) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (!listener.toString().equals(expected) && System.currentTimeMillis() < deadline) {
+            TestUtils.sleep(10);
+        }
+        assertEquals(expected, listener.toString());
+    }
+
+    @Test
+    public void testTailerPositionStore() throws Exception {
+        final File file = new File(temporaryFolder, "tailer-position-test.txt");
+        final File positions = new File(temporaryFolder, "tailer-position-test.properties");
+        createFile(file, 0);
+        write(file, "Line one", "Line two");
+
+        TestTailerListener listener = new TestTailerListener();
+        tailer = new Tailer(file, StandardCharsets.UTF_8, listener, 10, false, false, IOUtils.DEFAULT_BUFFER_SIZE,
+            new FileTailerPositionStore(positions.toPath(), 60_000));
+        Thread thread = new Thread(tailer);
+        thread.start();
+        awaitLines(listener, 2);
+        tailer.stop();
+        thread.join(10_000);
+        // written while not tailing
+        write(file, "Line three");
+
+        // resumes after the lines handled, even when asked to start at the end
+        listener = new TestTailerListener();
+        tailer = new Tailer(file, StandardCharsets.UTF_8, listener, 10, true, false, IOUtils.DEFAULT_BUFFER_SIZE,
+            new FileTailerPositionStore(positions.toPath(), 60_000));
+        thread = new Thread(tailer);
+        thread.start();
+        awaitLines(listener, 1);
+        assertEquals("Line three", listener.getLines().get(0));
+        tailer.stop();
+        thread.join(10_000);
+        assertEquals(0, listener.rotated);
+
+        // rotated while not tailing: a new, longer file
+        assertTrue(file.delete());
+        createFile(file, 0);
+        write(file, "Line A", "Line B", "Line C", "Line D");
+        listener = new TestTailerListener();
+        tailer = new Tailer(file, StandardCharsets.UTF_8, listener, 10, true, false, IOUtils.DEFAULT_BUFFER_SIZE,
+            new FileTailerPositionStore(positions.toPath(), 60_000));
+        thread = new Thread(tailer);
+        thread.start();
+        awaitLines(listener, 4);
+        assertEquals("Line A", listener.getLines().get(0));
+        assertEquals(1, listener.rotated);
+        assertNull(listener.exception);
+    }
+
+    @Test
+    public void testTailerPositionStoreIdle() throws Exception {
+        final File file = new File(temporaryFolder, "tailer-position-idle-test.txt");
+        final File positions = new File(temporaryFolder, "tailer-position-idle-test.properties");
+        createFile(file, 0);
+        write(file, "Line one", "Line two");
+
+        final TestTailerListener listener = new TestTailerListener();
+        tailer = new Tailer(file, StandardCharsets.UTF_8, listener, 10, false, false, IOUtils.DEFAULT_BUFFER_SIZE,
+            new FileTailerPositionStore(positions.toPath(), 500));
+        final Thread thread = new Thread(tailer);
+        thread.start();
+        awaitLines(listener, 2);
+        // saved by the idle checks once the flush interval elapsed, without any new line nor stopping
+        final long deadline = System.currentTimeMillis() + 10_000;
+        TailerPosition saved = null;
+        while (saved == null && System.currentTimeMillis() < deadline) {
+            TestUtils.sleep(50);
+            if (positions.exists()) {
+                saved = new FileTailerPositionStore(positions.toPath(), 0).get(file);
+            }
+        }
+        assertNotNull(saved);
+        assertEquals(file.length(), saved.getOffset());
+        assertTrue(thread.isAlive());
+        assertNull(listener.exception);
+    }
+
+    @Test
+    public void testTailerPositionStoreRotatedInPlace() throws Exception {
+        final File file = new File(temporaryFolder, "tailer-position-in-place-test.txt");
+        final File positions = new File(temporaryFolder, "tailer-position-in-place-test.properties");
+        createFile(file, 0);
+        write(file, "Line one", "Line two");
+
+        TestTailerListener listener = new TestTailerListener();
+        tailer = new Tailer(file, StandardCharsets.UTF_8, listener, 10, false, false, IOUtils.DEFAULT_BUFFER_SIZE,
+            new FileTailerPositionStore(positions.toPath(), 60_000));
+        Thread thread = new Thread(tailer);
+        thread.start();
+        awaitLines(listener, 2);
+        tailer.stop();
+        thread.join(10_000);
+
+        // truncated and rewritten while not tailing: same file key and longer, but different bytes
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(0);
+        }
+        write(file, "Line A", "Line B", "Line C", "Line D");
+        listener = new TestTailerListener();
+        tailer = new Tailer(file, StandardCharsets.UTF_8, listener, 10, true, false, IOUtils.DEFAULT_BUFFER_SIZE,
+            new FileTailerPositionStore(positions.toPath(), 60_000));
+        thread = new Thread(tailer);
+        thread.start();
+        awaitLines(listener, 4);
+        assertEquals("Line A", listener.getLines().get(0));
+        assertEquals(1, listener.rotated);
+        tailer.stop();
+        thread.join(10_000);
+
+        // a position saved after the file was last modified
+        final FileTailerPositionStore store = new FileTailerPositionStore(positions.toPath(), 60_000);
+        final TailerPosition saved = store.get(file);
+        store.put(file, new TailerPosition(saved.getOffset(), Long.MAX_VALUE, saved.getFileKey()));
+        listener = new TestTailerListener();
+        tailer = new Tailer(file, StandardCharsets.UTF_8, listener, 10, true, false, IOUtils.DEFAULT_BUFFER_SIZE,
+            store);
+        thread = new Thread(tailer);
+        thread.start();
+        awaitLines(listener, 4);
+        assertEquals("Line A", listener.getLines().get(0));
+        assertEquals(1, listener.rotated);
+        assertNull(listener.exception);
+    }
+
+    @Test
+    public void testTailerWatch() throws Exception {
+        // a delay much longer than the test proves the tailer wakes up on events
+        final long delayMillis = 60_000;
+        final File file = new File(temporaryFolder, "tailer-watch-test.txt");
+        createFile(file, 0);
+        final TestTailerListener listener = new TestTailerListener();
+        tailer = new Tailer(file, StandardCharsets.UTF_8, listener, delayMillis, false, false,
+            IOUtils.DEFAULT_BUFFER_SIZE, StandardTailerOption.WATCH);
+        final Thread thread = new Thread(tailer);
+        thread.start();
+
+        write(file, "Line one", "Line two");
+        awaitLines(listener, 2);
+        assertEquals("Line one", listener.getLines().get(0));
+        assertEquals("Line two", listener.getLines().get(1));
+
+        write(file, "Line three");
+        awaitLines(listener, 3);
+        assertEquals("Line three", listener.getLines().get(2));
+
+        // stop wakes up the tailer
+        tailer.stop();
+        thread.join(10_000);
+        assertFalse(thread.isAlive(), "Tailer should have stopped");
+        assertNull(listener.exception);
+    }
+
+    private void awaitLines(final TestTailerListener listener, final int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (listener.getLines().size() < count && System.currentTimeMillis() < deadline) {
+            TestUtils.sleep(10);
+        }
+        assertEquals(count, listener.getLines().size(), "line count");
+    }
+
     protected void createFile(final File file, final long size)
         throws IOException {
         if (!file.getParentFile().exists()) {
@@ -430,6 +691,51 @@ public void testIO335() throws Exception { // test CR behavior
         assertEquals("CRCR\r", lines.get(3), "line 4");
     }
 
+    /**
+     * Test {@link TailerBatchListener} implementation.
+     */
+    private static class TestBatchListener extends TestTailerListener implements TailerBatchListener {
+
+        volatile int batches;
+
+        @Override
+        public void handle(final List<String> lines) {
+            batches++; // not atomic, but OK because only updated here.
+            lines.forEach(this::handle);
+        }
+    }
+
+    /**
+     * Test {@link TailerBytesListener} implementation.
+     */
+    private static class TestBytesListener extends TailerListenerAdapter implements TailerBytesListener {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        volatile Exception exception;
+
+        @Override
+        public void handle(final ByteBuffer lines) {
+            synchronized (bytes) {
+                while (lines.hasRemaining()) {
+                    bytes.write(lines.get());
+                }
+            }
+        }
+
+        @Override
+        public void handle(final Exception e) {
+            exception = e;
+        }
+
+        @Override
+        public String toString() {
+            synchronized (bytes) {
+                return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
     /**
      * Test {@link TailerListener} implementation.
      */
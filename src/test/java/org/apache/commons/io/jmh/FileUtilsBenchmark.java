@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.io.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link FileUtils} copy and read methods.
+ * <p>
+ * The directory benchmarks spread the payload over {@value #FILE_COUNT} files.
+ * </p>
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dbenchmark=FileUtilsBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server"})
+public class FileUtilsBenchmark {
+
+    private static final int FILE_COUNT = 64;
+
+    @Param({"1024", "1048576", "16777216"})
+    public int payloadSize;
+
+    private File copyFile;
+    private File directory;
+    private File sourceDirectory;
+    private File sourceFile;
+    private File targetDirectory;
+    private File targetFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("FileUtilsBenchmark").toFile();
+        sourceFile = new File(directory, "source.txt");
+        targetFile = new File(directory, "target.txt");
+        FileUtils.writeByteArrayToFile(sourceFile, Payloads.textBytes(payloadSize));
+        // a separate file with the same bytes, so the comparison reads both files
+        copyFile = new File(directory, "copy.txt");
+        FileUtils.copyFile(sourceFile, copyFile);
+        sourceDirectory = new File(directory, "source");
+        targetDirectory = new File(directory, "target");
+        final byte[] fileBytes = Payloads.bytes(Math.max(1, payloadSize / FILE_COUNT));
+        for (int i = 0; i < FILE_COUNT; i++) {
+            FileUtils.writeByteArrayToFile(new File(sourceDirectory, "dir" + i % 8 + "/file" + i + ".bin"), fileBytes);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public File copyDirectory() throws IOException {
+        FileUtils.copyDirectory(sourceDirectory, targetDirectory);
+        return targetDirectory;
+    }
+
+    @Benchmark
+    public File copyFile() throws IOException {
+        FileUtils.copyFile(sourceFile, targetFile);
+        return targetFile;
+    }
+
+    @Benchmark
+    public boolean contentEquals() throws IOException {
+        return FileUtils.contentEquals(sourceFile, copyFile);
+    }
+
+    @Benchmark
+    public byte[] readFileToByteArray() throws IOException {
+        return FileUtils.readFileToByteArray(sourceFile);
+    }
+
+    @Benchmark
+    public String readFileToString() throws IOException {
+        return FileUtils.readFileToString(sourceFile, StandardCharsets.UTF_8);
+    }
+}
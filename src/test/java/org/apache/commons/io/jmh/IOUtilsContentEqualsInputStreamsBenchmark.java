@@ -22,9 +22,11 @@
 import static org.apache.commons.io.IOUtils.buffer;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.IOUtils;
@@ -51,6 +53,15 @@
  * IOUtilsContentEqualsInputStreamsBenchmark.testStringPr118          avgt    5  10890915400.000 ▒ 3251289634.067  ns/op
  * IOUtilsContentEqualsInputStreamsBenchmark.testStringRelease_2_8_0  avgt    5  12522802960.000 ▒  111147669.527  ns/op
  * </pre>
+ * <p>
+ * Comparing 4 MiB byte arrays eight bytes at a time, as in 2.9.0, against the byte at a time loop of PR 118:
+ * </p>
+ *
+ * <pre>
+ * IOUtilsContentEqualsInputStreamsBenchmark.testBytesCurrent         avgt    5        1598005.965 ▒     208418.352  ns/op
+ * IOUtilsContentEqualsInputStreamsBenchmark.testBytesPr118           avgt    5       15797845.918 ▒    6282705.455  ns/op
+ * IOUtilsContentEqualsInputStreamsBenchmark.testBytesRelease_2_8_0   avgt    5      405283141.340 ▒   23164864.283  ns/op
+ * </pre>
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -75,6 +86,16 @@ public class IOUtilsContentEqualsInputStreamsBenchmark {
         STRINGS[4] = StringUtils.repeat("ab\r\nab\r", 1 << 24);
     }
 
+    static byte[][] BYTES = new byte[3][];
+
+    static {
+        BYTES[0] = new byte[1 << 22];
+        new Random(0).nextBytes(BYTES[0]);
+        BYTES[1] = BYTES[0].clone();
+        BYTES[2] = BYTES[0].clone();
+        BYTES[2][BYTES[2].length - 1]++;
+    }
+
     static String SPECIAL_CASE_STRING_0 = StringUtils.repeat(StringUtils.repeat("ab", 1 << 24) + '\n', 2);
     static String SPECIAL_CASE_STRING_1 = StringUtils.repeat(StringUtils.repeat("cd", 1 << 24) + '\n', 2);
 
@@ -144,6 +165,30 @@ public static boolean contentEqualsPr118(final InputStream input1, final InputSt
         }
     }
 
+    @Benchmark
+    public void testBytesCurrent(final Blackhole blackhole) throws IOException {
+        for (int i = 1; i < 3; i++) {
+            blackhole.consume(IOUtils.contentEquals(new ByteArrayInputStream(BYTES[0]),
+                new ByteArrayInputStream(BYTES[i])));
+        }
+    }
+
+    @Benchmark
+    public void testBytesPr118(final Blackhole blackhole) throws IOException {
+        for (int i = 1; i < 3; i++) {
+            blackhole.consume(contentEqualsPr118(new ByteArrayInputStream(BYTES[0]),
+                new ByteArrayInputStream(BYTES[i])));
+        }
+    }
+
+    @Benchmark
+    public void testBytesRelease_2_8_0(final Blackhole blackhole) throws IOException {
+        for (int i = 1; i < 3; i++) {
+            blackhole.consume(contentEquals_release_2_8_0(new ByteArrayInputStream(BYTES[0]),
+                new ByteArrayInputStream(BYTES[i])));
+        }
+    }
+
     @Benchmark
     public boolean[] testFileCurrent() throws IOException {
         final boolean[] res = new boolean[3];
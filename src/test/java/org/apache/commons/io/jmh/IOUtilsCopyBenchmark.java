@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.io.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.NullOutputStream;
+import org.apache.commons.io.output.NullWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link IOUtils} copy methods across payload and buffer sizes.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dbenchmark=IOUtilsCopyBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server"})
+public class IOUtilsCopyBenchmark {
+
+    @Param({"1024", "1048576", "16777216"})
+    public int payloadSize;
+
+    @Param({"1024", "8192", "65536"})
+    public int bufferSize;
+
+    private byte[] bytes;
+    private byte[] byteBuffer;
+    private char[] charBuffer;
+    private File directory;
+    private File sourceFile;
+    private File targetFile;
+    private String text;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        bytes = Payloads.bytes(payloadSize);
+        text = Payloads.text(payloadSize);
+        byteBuffer = IOUtils.byteArray(bufferSize);
+        charBuffer = new char[bufferSize];
+        directory = Files.createTempDirectory("IOUtilsCopyBenchmark").toFile();
+        sourceFile = new File(directory, "source.bin");
+        targetFile = new File(directory, "target.bin");
+        FileUtils.writeByteArrayToFile(sourceFile, bytes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public long copyFileStreams() throws IOException {
+        try (InputStream in = new FileInputStream(sourceFile); OutputStream out = new FileOutputStream(targetFile)) {
+            return IOUtils.copy(in, out, bufferSize);
+        }
+    }
+
+    @Benchmark
+    public long copyInputStream() throws IOException {
+        return IOUtils.copy(new ByteArrayInputStream(bytes), NullOutputStream.NULL_OUTPUT_STREAM, bufferSize);
+    }
+
+    @Benchmark
+    public long copyLargeInputStreamWithBuffer() throws IOException {
+        return IOUtils.copyLarge(new ByteArrayInputStream(bytes), NullOutputStream.NULL_OUTPUT_STREAM, byteBuffer);
+    }
+
+    @Benchmark
+    public long copyLargeInputStreamWithOffset() throws IOException {
+        return IOUtils.copyLarge(new ByteArrayInputStream(bytes), NullOutputStream.NULL_OUTPUT_STREAM, 1,
+            payloadSize / 2, byteBuffer);
+    }
+
+    @Benchmark
+    public long copyLargeReaderWithBuffer() throws IOException {
+        try (Reader reader = new StringReader(text)) {
+            return IOUtils.copyLarge(reader, NullWriter.NULL_WRITER, charBuffer);
+        }
+    }
+}
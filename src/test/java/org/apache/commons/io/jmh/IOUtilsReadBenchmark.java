@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.io.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link IOUtils} methods that read a whole stream into memory, and {@link IOUtils#skip(InputStream, long)}.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dbenchmark=IOUtilsReadBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server"})
+public class IOUtilsReadBenchmark {
+
+    @Param({"1024", "1048576", "16777216"})
+    public int payloadSize;
+
+    private File directory;
+    private File sourceFile;
+    private byte[] textBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        textBytes = Payloads.textBytes(payloadSize);
+        directory = Files.createTempDirectory("IOUtilsReadBenchmark").toFile();
+        sourceFile = new File(directory, "source.txt");
+        FileUtils.writeByteArrayToFile(sourceFile, textBytes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public List<String> readLines() throws IOException {
+        return IOUtils.readLines(new ByteArrayInputStream(textBytes), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public long skip() throws IOException {
+        return IOUtils.skip(new ByteArrayInputStream(textBytes), payloadSize);
+    }
+
+    @Benchmark
+    public byte[] toByteArray() throws IOException {
+        return IOUtils.toByteArray(new ByteArrayInputStream(textBytes));
+    }
+
+    @Benchmark
+    public byte[] toByteArrayFile() throws IOException {
+        try (InputStream in = new FileInputStream(sourceFile)) {
+            return IOUtils.toByteArray(in);
+        }
+    }
+
+    @Benchmark
+    public char[] toCharArray() throws IOException {
+        return IOUtils.toCharArray(new ByteArrayInputStream(textBytes), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String toStringInputStream() throws IOException {
+        return IOUtils.toString(new ByteArrayInputStream(textBytes), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.io.jmh;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Generates repeatable benchmark payloads.
+ */
+final class Payloads {
+
+    private static final int LINE_LENGTH = 80;
+
+    /**
+     * Returns pseudo-random bytes, the same for a given size on every call.
+     *
+     * @param size the number of bytes.
+     * @return pseudo-random bytes.
+     */
+    static byte[] bytes(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Returns ASCII text with a line feed every {@value #LINE_LENGTH} characters.
+     *
+     * @param size the number of characters.
+     * @return ASCII text.
+     */
+    static String text(final int size) {
+        final Random random = new Random(size);
+        final StringBuilder builder = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            builder.append(i % LINE_LENGTH == LINE_LENGTH - 1 ? '\n' : (char) ('a' + random.nextInt(26)));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the UTF-8 bytes of {@link #text(int)}.
+     *
+     * @param size the number of bytes.
+     * @return ASCII text bytes.
+     */
+    static byte[] textBytes(final int size) {
+        return text(size).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Payloads() {
+        // no instances
+    }
+}
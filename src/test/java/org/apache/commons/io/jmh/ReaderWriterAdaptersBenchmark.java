@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.io.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CharSequenceReader;
+import org.apache.commons.io.input.ReaderInputStream;
+import org.apache.commons.io.output.NullOutputStream;
+import org.apache.commons.io.output.NullWriter;
+import org.apache.commons.io.output.WriterOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the byte/char adapters: {@link ReaderInputStream}, {@link WriterOutputStream}, {@link CharSequenceReader}
+ * and the {@link IOUtils} copy methods that decode or encode.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dbenchmark=ReaderWriterAdaptersBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server"})
+public class ReaderWriterAdaptersBenchmark {
+
+    @Param({"1024", "1048576", "16777216"})
+    public int payloadSize;
+
+    private byte[] buffer;
+    private String text;
+    private byte[] textBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = Payloads.text(payloadSize);
+        textBytes = text.getBytes(StandardCharsets.UTF_8);
+        buffer = IOUtils.byteArray();
+    }
+
+    @Benchmark
+    public long charSequenceReader() throws IOException {
+        return IOUtils.copyLarge(new CharSequenceReader(text), NullWriter.NULL_WRITER);
+    }
+
+    @Benchmark
+    public void copyInputStreamToWriter() throws IOException {
+        IOUtils.copy(new ByteArrayInputStream(textBytes), NullWriter.NULL_WRITER, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void copyReaderToOutputStream() throws IOException {
+        IOUtils.copy(new StringReader(text), NullOutputStream.NULL_OUTPUT_STREAM, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public long readerInputStream() throws IOException {
+        try (InputStream in = new ReaderInputStream(new StringReader(text), StandardCharsets.UTF_8)) {
+            return IOUtils.consume(in);
+        }
+    }
+
+    @Benchmark
+    public long writerOutputStream() throws IOException {
+        try (OutputStream out = new WriterOutputStream(NullWriter.NULL_WRITER, StandardCharsets.UTF_8)) {
+            return IOUtils.copyLarge(new ByteArrayInputStream(textBytes), out, buffer);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CoalescingFileAlterationListener} Test Case.
+ */
+public class CoalescingFileAlterationListenerTestCase {
+
+    /**
+     * Records the events and batches in the order they are delivered.
+     */
+    private static class EventListener extends FileAlterationListenerAdaptor {
+
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onDirectoryChange(final File directory) {
+            events.add("dir-change " + directory.getName());
+        }
+
+        @Override
+        public void onDirectoryCreate(final File directory) {
+            events.add("dir-create " + directory.getName());
+        }
+
+        @Override
+        public void onDirectoryDelete(final File directory) {
+            events.add("dir-delete " + directory.getName());
+        }
+
+        @Override
+        public void onFileChange(final File file) {
+            events.add("file-change " + file.getName());
+        }
+
+        @Override
+        public void onFileCreate(final File file) {
+            events.add("file-create " + file.getName());
+        }
+
+        @Override
+        public void onFileDelete(final File file) {
+            events.add("file-delete " + file.getName());
+        }
+
+        @Override
+        public void onStart(final FileAlterationObserver observer) {
+            events.add("start");
+        }
+
+        @Override
+        public void onStop(final FileAlterationObserver observer) {
+            events.add("stop");
+        }
+    }
+
+    private final File a = new File("a");
+    private final File b = new File("b");
+    private final File c = new File("c");
+    private final AtomicLong clock = new AtomicLong();
+    private final EventListener delegate = new EventListener();
+    private final FileAlterationObserver observer = new FileAlterationObserver("dir");
+
+    @Test
+    public void testCoalesce() {
+        final CoalescingFileAlterationListener listener = new CoalescingFileAlterationListener(delegate,
+            Duration.ZERO, Runnable::run, clock::get);
+        listener.onStart(observer);
+        listener.onFileCreate(a);
+        listener.onFileChange(a);
+        listener.onFileChange(b);
+        listener.onFileDelete(b);
+        listener.onFileCreate(c);
+        listener.onFileDelete(c);
+        listener.onStop(observer);
+        assertEquals(Arrays.asList("start", "file-create a", "file-delete b", "stop"), delegate.events);
+
+        delegate.events.clear();
+        listener.onStart(observer);
+        listener.onFileDelete(a);
+        listener.onFileCreate(a);
+        listener.onFileDelete(b);
+        listener.onDirectoryCreate(b);
+        listener.onStop(observer);
+        assertEquals(Arrays.asList("start", "file-change a", "file-delete b", "dir-create b", "stop"),
+            delegate.events);
+
+        // no batch without events
+        delegate.events.clear();
+        listener.onStart(observer);
+        listener.onStop(observer);
+        assertEquals(Collections.emptyList(), delegate.events);
+        assertEquals(0, listener.getPendingCount());
+    }
+
+    @Test
+    public void testCreatedDirectoryBeforeContents() {
+        final CoalescingFileAlterationListener listener = new CoalescingFileAlterationListener(delegate,
+            Duration.ofNanos(10), Runnable::run, clock::get);
+        final File directory = new File("d");
+        final File nested = new File(directory, "n");
+        listener.onStart(observer);
+        listener.onDirectoryCreate(directory);
+        listener.onDirectoryCreate(nested);
+        listener.onFileCreate(new File(nested, "f1"));
+        listener.onStop(observer);
+
+        // the directories keep changing while f1 settles
+        clock.set(5);
+        listener.onStart(observer);
+        listener.onDirectoryChange(directory);
+        listener.onDirectoryChange(nested);
+        listener.onFileCreate(new File(nested, "f2"));
+        listener.onStop(observer);
+        clock.set(12);
+        listener.onStart(observer);
+        listener.onStop(observer);
+        assertEquals(Arrays.asList("start", "dir-create d", "dir-create n", "file-create f1", "stop"),
+            delegate.events);
+
+        delegate.events.clear();
+        clock.set(20);
+        listener.onStart(observer);
+        listener.onStop(observer);
+        assertEquals(Arrays.asList("start", "file-create f2", "stop"), delegate.events);
+        assertEquals(0, listener.getPendingCount());
+    }
+
+    @Test
+    public void testDebounce() {
+        final CoalescingFileAlterationListener listener = new CoalescingFileAlterationListener(delegate,
+            Duration.ofNanos(10), Runnable::run, clock::get);
+        listener.onStart(observer);
+        listener.onFileCreate(a);
+        listener.onFileCreate(b);
+        listener.onStop(observer);
+        assertEquals(2, listener.getPendingCount());
+
+        // a is still being written
+        clock.set(5);
+        listener.onStart(observer);
+        listener.onFileChange(a);
+        listener.onStop(observer);
+        assertTrue(delegate.events.isEmpty());
+
+        clock.set(10);
+        listener.onStart(observer);
+        listener.onStop(observer);
+        assertEquals(Arrays.asList("start", "file-create b", "stop"), delegate.events);
+
+        delegate.events.clear();
+        clock.set(15);
+        listener.onStart(observer);
+        listener.onStop(observer);
+        assertEquals(Arrays.asList("start", "file-create a", "stop"), delegate.events);
+
+        delegate.events.clear();
+        listener.onFileDelete(b);
+        listener.flush();
+        assertEquals(Arrays.asList("start", "file-delete b", "stop"), delegate.events);
+        assertEquals(0, listener.getPendingCount());
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new CoalescingFileAlterationListener(delegate, Duration.ofMillis(-1), Runnable::run));
+        assertThrows(NullPointerException.class,
+            () -> new CoalescingFileAlterationListener(null, Duration.ZERO, Runnable::run));
+        assertThrows(NullPointerException.class,
+            () -> new CoalescingFileAlterationListener(delegate, Duration.ZERO, null));
+    }
+
+    @Test
+    public void testSlowDelegate() throws InterruptedException {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch delivered = new CountDownLatch(2);
+        final EventListener slow = new EventListener() {
+            @Override
+            public void onStop(final FileAlterationObserver observer) {
+                super.onStop(observer);
+                delivered.countDown();
+                if (blocked.getCount() > 0) {
+                    blocked.countDown();
+                    try {
+                        release.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CoalescingFileAlterationListener listener = new CoalescingFileAlterationListener(slow,
+                Duration.ZERO, executor);
+            listener.onStart(observer);
+            listener.onFileCreate(a);
+            listener.onStop(observer);
+            assertTrue(blocked.await(10, TimeUnit.SECONDS));
+
+            // the checks go on while the delegate is busy, their events are coalesced into one batch
+            for (int i = 0; i < 10; i++) {
+                listener.onStart(observer);
+                listener.onFileChange(b);
+                listener.onFileChange(c);
+                listener.onStop(observer);
+            }
+            assertEquals(2, listener.getPendingCount());
+            release.countDown();
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList("start", "file-create a", "stop", "start", "file-change b", "file-change c",
+                "stop"), slow.events);
+            assertEquals(0, listener.getPendingCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
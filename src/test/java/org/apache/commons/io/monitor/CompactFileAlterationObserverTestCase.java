@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CompactFileAlterationObserver} Test Case, runs the {@link FileAlterationObserver} tests.
+ */
+public class CompactFileAlterationObserverTestCase extends FileAlterationObserverTestCase {
+
+    @Override
+    protected void createObserver(final File file, final FileFilter fileFilter) {
+        observer = new CompactFileAlterationObserver(file, fileFilter);
+        observer.addListener(listener);
+        observer.addListener(new FileAlterationListenerAdaptor());
+        try {
+            observer.initialize();
+        } catch (final Exception e) {
+            fail("Observer init() threw " + e);
+        }
+    }
+
+    /**
+     * Tests the snapshot of a tree.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void testTreeSnapshot() throws IOException {
+        final File testDirA = new File(testDir, "test-dir-A");
+        final File testDirB = new File(testDir, "test-dir-B");
+        assertTrue(testDirA.mkdir());
+        assertTrue(testDirB.mkdir());
+        FileUtils.write(new File(testDirA, "file.java"), "A", StandardCharsets.US_ASCII);
+        FileUtils.write(new File(testDirB, "file.java"), "BB", StandardCharsets.US_ASCII);
+        checkAndNotify();
+        final FileTreeSnapshot snapshot = ((CompactFileAlterationObserver) observer).getSnapshot();
+
+        assertEquals(5, snapshot.size());
+        // test-dir, test-dir-A, test-dir-B and file.java
+        assertEquals(4, snapshot.getNameCount());
+        assertEquals(testDir.getName(), snapshot.getName(0));
+        assertEquals(5, snapshot.getEnd(0));
+        assertTrue(snapshot.isDirectory(0));
+        assertEquals("test-dir-A", snapshot.getName(1));
+        assertEquals(3, snapshot.getEnd(1));
+        assertTrue(snapshot.isDirectory(1));
+        assertEquals(0, snapshot.getLength(1));
+        assertEquals("file.java", snapshot.getName(2));
+        assertTrue(snapshot.isExists(2));
+        assertFalse(snapshot.isDirectory(2));
+        assertEquals(1, snapshot.getLength(2));
+        assertEquals(FileUtils.lastModified(new File(testDirA, "file.java")), snapshot.getLastModified(2));
+        assertEquals("test-dir-B", snapshot.getName(3));
+        assertEquals(5, snapshot.getEnd(3));
+        assertEquals("file.java", snapshot.getName(4));
+        assertEquals(2, snapshot.getLength(4));
+        assertTrue(snapshot.isChanged(2, snapshot, 4));
+        assertFalse(snapshot.isChanged(2, snapshot, 2));
+    }
+
+}
@@ -18,16 +18,24 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 
+import org.apache.commons.io.monitor.FileAlterationMonitor.Statistics;
 import org.apache.commons.io.test.TestUtils;
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +144,125 @@ public void testMonitor() throws Exception {
         }
     }
 
+    /**
+     * Test jitter.
+     */
+    @Test
+    public void testJitter() {
+        final FileAlterationMonitor monitor = new FileAlterationMonitor(100);
+        assertEquals(0, monitor.getJitter());
+        monitor.setJitter(50);
+        assertEquals(50, monitor.getJitter());
+        assertThrows(IllegalArgumentException.class, () -> monitor.setJitter(-1));
+    }
+
+    /**
+     * Test monitors sharing a scheduled executor service.
+     * @throws Exception
+     */
+    @Test
+    public void testScheduledExecutorService() throws Exception {
+        final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1);
+        try {
+            final long interval = 100;
+            listener.clear();
+            final FileAlterationMonitor monitor = new FileAlterationMonitor(interval, observer);
+            final FileAlterationObserver other = new FileAlterationObserver(testDir);
+            final FileAlterationMonitor otherMonitor = new FileAlterationMonitor(interval, other);
+            for (final FileAlterationMonitor m : Arrays.asList(monitor, otherMonitor)) {
+                m.setScheduledExecutorService(executor);
+                m.setJitter(interval);
+                m.start();
+            }
+
+            // Create a File
+            checkCollectionsEmpty("A");
+            final File file3 = touch(new File(testDir, "file3.java"));
+            checkFile("Create", file3, listener.getCreatedFiles());
+            listener.clear();
+
+            // Delete a file
+            checkCollectionsEmpty("B");
+            file3.delete();
+            checkFile("Delete", file3, listener.getDeletedFiles());
+            listener.clear();
+
+            // Stop monitoring
+            monitor.stop();
+            otherMonitor.stop();
+            final Statistics statistics = monitor.getStatistics(observer);
+            final long count = statistics.getCount();
+            assertTrue(count >= 2, statistics.toString());
+            assertTrue(otherMonitor.getStatistics(other).getCount() > 0);
+            assertTrue(statistics.getMaxDuration().compareTo(statistics.getLastDuration()) >= 0);
+            assertTrue(statistics.getTotalDuration().compareTo(statistics.getMaxDuration()) >= 0);
+            TestUtils.sleepQuietly(interval * 3);
+            assertEquals(count, statistics.getCount(), "No checks after stop");
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test restarting a monitor on a scheduled executor service after a stop timed out waiting for a check.
+     * @throws Exception
+     */
+    @Test
+    public void testScheduledRestartAfterStopTimeout() throws Exception {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(2);
+        try {
+            final CountDownLatch checking = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final FileAlterationObserver slowObserver = new FileAlterationObserver(testDir) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public void checkAndNotify() {
+                    checking.countDown();
+                    try {
+                        release.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    super.checkAndNotify();
+                }
+            };
+            final FileAlterationMonitor monitor = new FileAlterationMonitor(60_000, slowObserver);
+            monitor.setScheduledExecutorService(executor);
+            monitor.start();
+            checking.await();
+            monitor.stop(1);
+            monitor.start();
+            release.countDown();
+            final long end = System.currentTimeMillis() + 5_000;
+            while ((executor.getActiveCount() > 0 || monitor.getStatistics(slowObserver).getCount() < 2)
+                && System.currentTimeMillis() < end) {
+                TestUtils.sleepQuietly(10);
+            }
+            // the check running during stop() and the first check of the new start
+            assertEquals(2, monitor.getStatistics(slowObserver).getCount());
+            assertEquals(1, executor.getQueue().size(), "A single chain of checks");
+            monitor.stop();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test statistics.
+     */
+    @Test
+    public void testStatistics() {
+        final FileAlterationMonitor monitor = new FileAlterationMonitor(100, observer);
+        assertEquals(0, monitor.getStatistics(observer).getCount());
+        assertEquals(Duration.ZERO, monitor.getStatistics(observer).getLastDuration());
+        assertNull(monitor.getStatistics(null));
+        assertNull(monitor.getStatistics(new FileAlterationObserver("foo")));
+        monitor.removeObserver(observer);
+        assertNull(monitor.getStatistics(observer));
+    }
+
     /**
      * Test using a thread factory.
      * @throws Exception
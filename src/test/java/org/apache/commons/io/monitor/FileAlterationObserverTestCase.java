@@ -18,11 +18,16 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 
 import org.apache.commons.io.FileUtils;
@@ -68,6 +73,45 @@ public void testAddRemoveListeners() {
         assertFalse(observer.getListeners().iterator().hasNext(), "Listeners[5]");
     }
 
+    /**
+     * Test writeSnapshot() and readSnapshot().
+     * @throws Exception
+     */
+    @Test
+    public void testSnapshot() throws Exception {
+        final File testDirA = new File(testDir, "test-dir-A");
+        testDirA.mkdir();
+        final File testDirAFile1 = touch(new File(testDirA, "A-file1.java"));
+        final File testDirAFile2 = touch(new File(testDirA, "A-file2.java"));
+        checkAndNotify();
+        checkCollectionSizes("A", 1, 0, 0, 2, 0, 0);
+        final ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        observer.writeSnapshot(snapshot);
+        observer.destroy();
+
+        // changes while no observer is running
+        touch(testDirAFile1);
+        testDirAFile2.delete();
+        final File testFile = touch(new File(testDir, "file.java"));
+
+        createObserver(testDir, observer.getFileFilter());
+        observer.readSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+        checkAndNotify();
+        assertEquals(Collections.singletonList(testFile), listener.getCreatedFiles(), "B created");
+        assertEquals(Collections.singletonList(testDirAFile1), listener.getChangedFiles(), "B changed");
+        assertEquals(Collections.singletonList(testDirAFile2), listener.getDeletedFiles(), "B deleted");
+        assertTrue(listener.getCreatedDirectories().isEmpty(), "B created directories");
+        assertTrue(listener.getDeletedDirectories().isEmpty(), "B deleted directories");
+
+        checkAndNotify();
+        checkCollectionsEmpty("C");
+        final FileAlterationObserver other = new FileAlterationObserver(testDirA);
+        assertThrows(IOException.class, () -> other.readSnapshot(new ByteArrayInputStream(snapshot.toByteArray())));
+        assertThrows(IOException.class, () -> observer.readSnapshot(new ByteArrayInputStream(new byte[16])));
+        final byte[] truncated = Arrays.copyOf(snapshot.toByteArray(), snapshot.size() - 1);
+        assertThrows(IOException.class, () -> observer.readSnapshot(new ByteArrayInputStream(truncated)));
+    }
+
     /**
      * Test toString().
      */
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link FileAlterationObserver} Test Case scanning in parallel, runs the {@link FileAlterationObserver} tests.
+ */
+public class ParallelFileAlterationObserverTestCase extends FileAlterationObserverTestCase {
+
+    /**
+     * Records the events in the order they are fired.
+     */
+    private static final class EventListener extends FileAlterationListenerAdaptor {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onDirectoryChange(final File directory) {
+            events.add("dir-change " + directory.getName());
+        }
+
+        @Override
+        public void onDirectoryCreate(final File directory) {
+            events.add("dir-create " + directory.getName());
+        }
+
+        @Override
+        public void onDirectoryDelete(final File directory) {
+            events.add("dir-delete " + directory.getName());
+        }
+
+        @Override
+        public void onFileChange(final File file) {
+            events.add("file-change " + file.getName());
+        }
+
+        @Override
+        public void onFileCreate(final File file) {
+            events.add("file-create " + file.getName());
+        }
+
+        @Override
+        public void onFileDelete(final File file) {
+            events.add("file-delete " + file.getName());
+        }
+    }
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    public static void shutdownPool() {
+        POOL.shutdownNow();
+    }
+
+    @Override
+    protected void createObserver(final File file, final FileFilter fileFilter) {
+        observer = new FileAlterationObserver(file, fileFilter, null, POOL);
+        observer.addListener(listener);
+        observer.addListener(new FileAlterationListenerAdaptor());
+        try {
+            observer.initialize();
+        } catch (final Exception e) {
+            fail("Observer init() threw " + e);
+        }
+    }
+
+    /**
+     * Tests the observer of a directory that holds nothing but subdirectories.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void testEmptyDirectories() throws IOException {
+        checkAndNotify();
+        checkCollectionsEmpty("A");
+        for (int d = 0; d < 16; d++) {
+            assertTrue(new File(testDir, "dir-" + d).mkdir());
+        }
+        checkAndNotify();
+        checkCollectionSizes("B", 16, 0, 0, 0, 0, 0);
+        FileUtils.cleanDirectory(testDir);
+        checkAndNotify();
+        checkCollectionSizes("C", 0, 0, 16, 0, 0, 0);
+    }
+
+    /**
+     * Tests that a parallel scan fires the same events in the same order as a sequential scan.
+     *
+     * @throws Exception if an error occurs.
+     */
+    @Test
+    public void testSameEventsAsSequentialScan() throws Exception {
+        for (int d = 0; d < 8; d++) {
+            final File dir = new File(testDir, "dir-" + d);
+            assertTrue(dir.mkdirs());
+            for (int f = 0; f < 8; f++) {
+                touch(new File(dir, "file-" + f + ".java"));
+            }
+        }
+        final EventListener sequentialEvents = new EventListener();
+        final FileAlterationObserver sequential = new FileAlterationObserver(testDir);
+        sequential.addListener(sequentialEvents);
+        sequential.initialize();
+        final EventListener parallelEvents = new EventListener();
+        final FileAlterationObserver parallel = new FileAlterationObserver(testDir, null, null, POOL);
+        parallel.addListener(parallelEvents);
+        parallel.initialize();
+
+        for (int d = 0; d < 8; d += 2) {
+            final File dir = new File(testDir, "dir-" + d);
+            touch(new File(dir, "file-0.java"));
+            touch(new File(dir, "file-8.java"));
+            assertTrue(new File(new File(dir, "sub"), "sub").mkdirs());
+            touch(new File(new File(dir, "sub"), "file.java"));
+        }
+        FileUtils.deleteDirectory(new File(testDir, "dir-3"));
+        assertTrue(new File(testDir, "dir-5/file-5.java").delete());
+        sequential.checkAndNotify();
+        parallel.checkAndNotify();
+        assertFalse(sequentialEvents.events.isEmpty());
+        assertEquals(sequentialEvents.events, parallelEvents.events);
+
+        sequentialEvents.events.clear();
+        parallelEvents.events.clear();
+        sequential.checkAndNotify();
+        parallel.checkAndNotify();
+        assertEquals(new ArrayList<>(), parallelEvents.events);
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.io.monitor;
+
+import static org.apache.commons.io.test.TestUtils.sleepQuietly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link WatchServiceFileAlterationObserver} Test Case, runs the {@link FileAlterationObserver} tests.
+ */
+public class WatchServiceFileAlterationObserverTestCase extends FileAlterationObserverTestCase {
+
+    /**
+     * Calls {@link FileAlterationObserver#checkAndNotify()} once the watch service had time to report the changes.
+     */
+    @Override
+    protected void checkAndNotify() {
+        sleepQuietly(pauseTime);
+        super.checkAndNotify();
+    }
+
+    @Override
+    protected void createObserver(final File file, final FileFilter fileFilter) {
+        observer = new WatchServiceFileAlterationObserver(file, fileFilter);
+        observer.addListener(listener);
+        observer.addListener(new FileAlterationListenerAdaptor());
+        try {
+            observer.initialize();
+        } catch (final Exception e) {
+            fail("Observer init() threw " + e);
+        }
+    }
+
+    /**
+     * Tests a directory moved within the tree, its watch key still names its old path.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void testMovedDirectory() throws IOException {
+        final File testDirA = new File(testDir, "test-dir-A");
+        final File testDirB = new File(testDir, "test-dir-B");
+        final File moved = new File(testDirA, "moved");
+        assertTrue(new File(moved, "nested").mkdirs());
+        assertTrue(testDirB.mkdirs());
+        checkAndNotify();
+        listener.clear();
+
+        final File target = new File(testDirB, "moved");
+        Files.move(moved.toPath(), target.toPath());
+        checkAndNotify();
+        assertTrue(listener.getDeletedDirectories().contains(moved), "A moved");
+        assertTrue(listener.getCreatedDirectories().contains(target), "A target");
+        listener.clear();
+
+        final File file1 = touch(new File(target, "file1.java"));
+        final File file2 = touch(new File(target, "nested/file2.java"));
+        checkAndNotify();
+        assertTrue(listener.getCreatedFiles().contains(file1), "B file1");
+        assertTrue(listener.getCreatedFiles().contains(file2), "B file2");
+        listener.clear();
+
+        // once the directories registered by the move were checked, only their watch keys report changes
+        final File file3 = touch(new File(target, "file3.java"));
+        final File file4 = touch(new File(target, "nested/file4.java"));
+        checkAndNotify();
+        assertTrue(listener.getCreatedFiles().contains(file3), "C file3");
+        assertTrue(listener.getCreatedFiles().contains(file4), "C file4");
+    }
+
+    /**
+     * Tests directories created inside new directories and a directory deleted and created again between checks.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Test
+    public void testNestedDirectories() throws IOException {
+        checkAndNotify();
+        checkCollectionsEmpty("A");
+        final File testDirA = new File(testDir, "test-dir-A");
+        final File testDirB = new File(testDirA, "test-dir-B");
+        assertTrue(testDirB.mkdirs());
+        final File testDirBFile1 = touch(new File(testDirB, "B-file1.java"));
+        checkAndNotify();
+        checkCollectionSizes("B", 2, 0, 0, 1, 0, 0);
+
+        // the new directories are watched
+        final File testDirBFile2 = touch(new File(testDirB, "B-file2.java"));
+        checkAndNotify();
+        checkCollectionSizes("C", 0, 1, 0, 1, 0, 0);
+        assertTrue(listener.getCreatedFiles().contains(testDirBFile2), "C testDirBFile2");
+
+        // deleted and created again between checks
+        FileUtils.deleteDirectory(testDirA);
+        assertTrue(testDirB.mkdirs());
+        touch(testDirBFile1);
+        checkAndNotify();
+        checkAndNotify();
+        final File testDirBFile3 = touch(new File(testDirB, "B-file3.java"));
+        checkAndNotify();
+        assertTrue(listener.getCreatedFiles().contains(testDirBFile3), "D testDirBFile3");
+    }
+
+}